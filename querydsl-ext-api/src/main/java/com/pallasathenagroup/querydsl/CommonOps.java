@@ -4,7 +4,9 @@ import com.querydsl.core.types.Operator;
 
 public enum CommonOps implements Operator {
     CAST(Object.class),
-    AS_TEXT(String.class);
+    AS_TEXT(String.class),
+    IN_ARRAY(Boolean.class),
+    NOT_IN_ARRAY(Boolean.class);
 
     private final Class<?> type;
 
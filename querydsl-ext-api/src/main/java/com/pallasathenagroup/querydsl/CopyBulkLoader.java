@@ -0,0 +1,180 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Path;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import javax.persistence.EntityManager;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Load entities with {@code COPY ... FROM STDIN}, bypassing the persistence context
+ * <pre>
+ * long rows = new CopyBulkLoader&lt;&gt;(entityManager, arrayEntity)
+ *         .column(arrayEntity.id, ArrayEntity::getId)
+ *         .column(arrayEntity.sensorNames, ArrayEntity::getSensorNames)
+ *         .load(entities);
+ * </pre>
+ * The columns are described by the paths of the generated Q-classes and read with the given getters, the column
+ * names and the hibernate types are resolved once per load, so nothing is looked up per row. Values are encoded
+ * in the text format with the representation of their hibernate type (jsonb, arrays, ranges, intervals, hstore,
+ * year months, postgres enums and the basic types).
+ * <p>
+ * Rows are written to the connection each time {@link #bufferSize(int)} characters are buffered, and a
+ * {@code COPY} is ended and a new one started every {@link #flushSize(int)} rows.
+ * <p>
+ * As for a bulk insert, the second level cache regions and the cached queries of the entity are invalidated.
+ */
+public class CopyBulkLoader<T> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int DEFAULT_FLUSH_SIZE = 100_000;
+
+    private final EntityManager entityManager;
+
+    private final EntityPath<T> entity;
+
+    private final List<Path<?>> paths = new ArrayList<>();
+
+    private final List<Function<? super T, ?>> getters = new ArrayList<>();
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    private int flushSize = DEFAULT_FLUSH_SIZE;
+
+    public CopyBulkLoader(EntityManager entityManager, EntityPath<T> entity) {
+        this.entityManager = entityManager;
+        this.entity = entity;
+    }
+
+    public <V> CopyBulkLoader<T> column(Path<V> path, Function<? super T, ? extends V> getter) {
+        if (!entity.equals(path.getMetadata().getParent())) {
+            throw new IllegalArgumentException(path + " is not a property of " + entity);
+        }
+        paths.add(path);
+        getters.add(getter);
+        return this;
+    }
+
+    public CopyBulkLoader<T> bufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    public CopyBulkLoader<T> flushSize(int flushSize) {
+        if (flushSize < 1) {
+            throw new IllegalArgumentException("Flush size must be positive");
+        }
+        this.flushSize = flushSize;
+        return this;
+    }
+
+    /**
+     * @return the number of copied rows
+     */
+    public long load(Iterable<? extends T> entities) {
+        if (paths.isEmpty()) {
+            throw new IllegalStateException("No columns to copy");
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        session.flush();
+
+        AbstractEntityPersister persister = (AbstractEntityPersister) session.getFactory().getMetamodel()
+                .entityPersister(entity.getType());
+        List<String> columns = new ArrayList<>(paths.size());
+        List<Function<Object, String>> encoders = new ArrayList<>(paths.size());
+        for (Path<?> path : paths) {
+            String[] columnNames = persister.getPropertyColumnNames(path.getMetadata().getName());
+            if (columnNames.length != 1) {
+                throw new IllegalArgumentException(path + " is mapped to " + columnNames.length + " columns");
+            }
+            columns.add(columnNames[0]);
+            encoders.add(CopyEncoders.forType(persister.getPropertyType(path.getMetadata().getName())));
+        }
+        String sql = "COPY " + persister.getTableName() + " (" + String.join(", ", columns) + ") FROM STDIN";
+
+        HqlStatements.registerBulkOperationCleanup(session, new BulkOperationCleanupAction(session, persister));
+
+        return session.doReturningWork(connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            StringBuilder buffer = new StringBuilder(bufferSize + 1024);
+            long result = 0;
+            int rows = 0;
+            CopyIn copyIn = null;
+            try {
+                for (T row : entities) {
+                    if (copyIn == null) {
+                        copyIn = copyManager.copyIn(sql);
+                    }
+                    for (int i = 0; i < getters.size(); i++) {
+                        if (i > 0) {
+                            buffer.append('\t');
+                        }
+                        Object value = getters.get(i).apply(row);
+                        if (value == null) {
+                            buffer.append("\\N");
+                        } else {
+                            escape(buffer, encoders.get(i).apply(value));
+                        }
+                    }
+                    buffer.append('\n');
+
+                    if (buffer.length() >= bufferSize) {
+                        write(copyIn, buffer);
+                    }
+                    if (++rows == flushSize) {
+                        write(copyIn, buffer);
+                        result += copyIn.endCopy();
+                        copyIn = null;
+                        rows = 0;
+                    }
+                }
+                if (copyIn != null) {
+                    write(copyIn, buffer);
+                    result += copyIn.endCopy();
+                    copyIn = null;
+                }
+                return result;
+            } finally {
+                if (copyIn != null && copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    private static void escape(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': buffer.append("\\\\"); break;
+                case '\n': buffer.append("\\n"); break;
+                case '\r': buffer.append("\\r"); break;
+                case '\t': buffer.append("\\t"); break;
+                default: buffer.append(c);
+            }
+        }
+    }
+
+}
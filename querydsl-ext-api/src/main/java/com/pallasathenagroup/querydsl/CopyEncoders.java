@@ -0,0 +1,162 @@
+package com.pallasathenagroup.querydsl;
+
+import com.pallasathenagroup.querydsl.json.JsonMappers;
+import com.vladmihalcea.hibernate.type.array.DateArrayType;
+import com.vladmihalcea.hibernate.type.array.internal.AbstractArrayType;
+import com.vladmihalcea.hibernate.type.basic.PostgreSQLEnumType;
+import com.vladmihalcea.hibernate.type.basic.PostgreSQLHStoreType;
+import com.vladmihalcea.hibernate.type.basic.YearMonthDateType;
+import com.vladmihalcea.hibernate.type.basic.YearMonthEpochType;
+import com.vladmihalcea.hibernate.type.basic.YearMonthIntegerType;
+import com.vladmihalcea.hibernate.type.basic.YearMonthTimestampType;
+import com.vladmihalcea.hibernate.type.interval.PostgreSQLIntervalType;
+import com.vladmihalcea.hibernate.type.interval.PostgreSQLPeriodType;
+import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
+import com.vladmihalcea.hibernate.type.json.JsonNodeBinaryType;
+import com.vladmihalcea.hibernate.type.json.JsonNodeStringType;
+import com.vladmihalcea.hibernate.type.json.JsonStringType;
+import com.vladmihalcea.hibernate.type.json.JsonType;
+import com.vladmihalcea.hibernate.type.range.PostgreSQLRangeType;
+import com.vladmihalcea.hibernate.type.range.Range;
+import com.vladmihalcea.hibernate.type.range.guava.PostgreSQLGuavaRangeType;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Function;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
+
+/**
+ * Encoders of property values to the text format of {@code COPY}, matching the representation bound by the
+ * hibernate types. The encoders return the value before the escaping of the copy format.
+ */
+final class CopyEncoders {
+
+    private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+
+    private CopyEncoders() {
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static Function<Object, String> forType(Type type) {
+        Object hibernateType = type instanceof CustomType ? ((CustomType) type).getUserType() : type;
+
+        if (hibernateType instanceof JsonBinaryType || hibernateType instanceof JsonType
+                || hibernateType instanceof JsonStringType || hibernateType instanceof JsonNodeBinaryType
+                || hibernateType instanceof JsonNodeStringType) {
+            return CopyEncoders::json;
+        } else if (hibernateType instanceof AbstractArrayType) {
+            boolean dates = hibernateType instanceof DateArrayType;
+            return value -> array(value, dates);
+        } else if (hibernateType instanceof PostgreSQLGuavaRangeType) {
+            PostgreSQLGuavaRangeType rangeType = (PostgreSQLGuavaRangeType) hibernateType;
+            return value -> rangeType.asString((com.google.common.collect.Range) value);
+        } else if (hibernateType instanceof PostgreSQLRangeType) {
+            return value -> ((Range) value).asString();
+        } else if (hibernateType instanceof PostgreSQLIntervalType || hibernateType instanceof PostgreSQLPeriodType) {
+            // ISO 8601 durations are accepted as interval input
+            return Object::toString;
+        } else if (hibernateType instanceof PostgreSQLHStoreType) {
+            return value -> hstore((Map<?, ?>) value);
+        } else if (hibernateType instanceof PostgreSQLEnumType) {
+            return value -> ((Enum<?>) value).name();
+        } else if (hibernateType instanceof YearMonthDateType) {
+            return value -> ((YearMonth) value).atDay(1).toString();
+        } else if (hibernateType instanceof YearMonthTimestampType) {
+            return value -> Timestamp.valueOf(((YearMonth) value).atDay(1).atStartOfDay()).toString();
+        } else if (hibernateType instanceof YearMonthIntegerType) {
+            return value -> String.valueOf(((YearMonth) value).getYear() * 100 + ((YearMonth) value).getMonthValue());
+        } else if (hibernateType instanceof YearMonthEpochType) {
+            return value -> String.valueOf(Period.between(EPOCH, ((YearMonth) value).atDay(1)).toTotalMonths());
+        } else if (type instanceof StringRepresentableType) {
+            StringRepresentableType stringType = (StringRepresentableType) type;
+            return stringType::toString;
+        }
+
+        throw new IllegalArgumentException("Type " + type.getName() + " is not supported by copy");
+    }
+
+    private static String json(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        return JsonMappers.toJson(value);
+    }
+
+    private static String array(Object value, boolean dates) {
+        StringBuilder builder = new StringBuilder("{");
+        if (value instanceof int[]) {
+            for (int element : (int[]) value) {
+                separate(builder).append(element);
+            }
+        } else if (value instanceof long[]) {
+            for (long element : (long[]) value) {
+                separate(builder).append(element);
+            }
+        } else if (value instanceof double[]) {
+            for (double element : (double[]) value) {
+                separate(builder).append(element);
+            }
+        } else {
+            Iterable<?> elements = value instanceof Collection ? (Collection<?>) value : Arrays.asList((Object[]) value);
+            for (Object element : elements) {
+                separate(builder);
+                if (element == null) {
+                    builder.append("NULL");
+                } else {
+                    quote(builder, arrayElement(element, dates));
+                }
+            }
+        }
+        return builder.append("}").toString();
+    }
+
+    private static String arrayElement(Object element, boolean dates) {
+        if (element instanceof Enum) {
+            return ((Enum<?>) element).name();
+        } else if (element instanceof Date && !(element instanceof java.sql.Date) && !(element instanceof Timestamp)) {
+            long time = ((Date) element).getTime();
+            return dates ? new java.sql.Date(time).toString() : new Timestamp(time).toString();
+        }
+        return element.toString();
+    }
+
+    private static String hstore(Map<?, ?> map) {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            quote(builder, entry.getKey().toString()).append("=>");
+            if (entry.getValue() == null) {
+                builder.append("NULL");
+            } else {
+                quote(builder, entry.getValue().toString());
+            }
+        }
+        return builder.toString();
+    }
+
+    private static StringBuilder separate(StringBuilder builder) {
+        return builder.length() > 1 ? builder.append(',') : builder;
+    }
+
+    private static StringBuilder quote(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\');
+            }
+            builder.append(c);
+        }
+        return builder.append('"');
+    }
+
+}
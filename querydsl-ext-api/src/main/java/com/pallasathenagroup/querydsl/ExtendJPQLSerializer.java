@@ -1,14 +1,18 @@
 package com.pallasathenagroup.querydsl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.NullNode;
+import com.pallasathenagroup.querydsl.json.JsonMappers;
+import com.pallasathenagroup.querydsl.json.JsonPath;
+import com.pallasathenagroup.querydsl.json.RawJsonType;
 import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Path;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
 import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
-import com.vladmihalcea.hibernate.type.util.Configuration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.persistence.EntityManager;
@@ -47,40 +51,43 @@ public class ExtendJPQLSerializer extends JPQLSerializer {
             handle(entry.getValue());
             first = false;
         }
+        // updates of the same column are nested in a single assignment, a column can only be assigned once
+        Map<JsonPath<?>, List<ExtendJpaUpdateClause.JsonUpdatePair>> jsonUpdatesByField = new LinkedHashMap<>();
         for (var entry : jsonUpdate) {
+            jsonUpdatesByField.computeIfAbsent(entry.field, field -> new ArrayList<>()).add(entry);
+        }
+        for (var entry : jsonUpdatesByField.entrySet()) {
             if (!first) {
                 append(", ");
             }
 
-            var path = HibernateTypesExpressions.createArrayExpression(entry.path);
-            var rawValue = entry.value;
-            if (rawValue instanceof String) {
-                var wrapper = Configuration.INSTANCE.getObjectMapperWrapper();
-                try {
-                    rawValue = wrapper.getObjectMapper().writeValueAsString(rawValue);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            var value = rawValue instanceof Expression ? rawValue :
-                    new TypedParameterValue(
-                        JsonBinaryType.INSTANCE,
-                        rawValue == null ? NullNode.instance : rawValue
-                    );
-
-            handle(entry.field);
+            handle(entry.getKey());
             append(" = ");
-            append(" jsonb_set(");
-            handle(entry.field);
-            append(",");
-            handle(path);
-            append(",");
-            handle(value);
-            append(")");
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                append("jsonb_set(");
+            }
+            handle(entry.getKey());
+            for (var pair : entry.getValue()) {
+                append(",");
+                handle(HibernateTypesExpressions.createArrayExpression(pair.path));
+                append(",");
+                handle(getJsonValue(pair.value));
+                append(")");
+            }
             first = false;
         }
         if (md.getWhere() != null) {
             append(WHERE).handle(md.getWhere());
         }
     }
+
+    private static Object getJsonValue(Object rawValue) {
+        if (rawValue instanceof Expression) {
+            return rawValue;
+        } else if (rawValue == null) {
+            return new TypedParameterValue(JsonBinaryType.INSTANCE, NullNode.instance);
+        }
+        // serialized with the writer cached for the class (or once for JsonMappers.cached), bound without parsing
+        return new TypedParameterValue(RawJsonType.INSTANCE, JsonMappers.toRawJson(rawValue));
+    }
 }
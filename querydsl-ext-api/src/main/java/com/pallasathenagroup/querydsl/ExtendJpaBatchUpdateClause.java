@@ -0,0 +1,201 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.persistence.Column;
+import javax.persistence.EntityManager;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.TypedParameterValue;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.Type;
+
+/**
+ * Update many rows with per row values in one statement
+ * <pre>
+ * update table set col1 = v.v0, col2 = v.v1
+ * from (values (?, ?, ?), (?, ?, ?)) as v(k, v0, v1)
+ * where table.key = v.k
+ * </pre>
+ * Each value is bound as a {@link TypedParameterValue} of the hibernate type mapped for its column, so jsonb,
+ * array, range and interval columns are supported, and cast to the type of the column definition when the column has
+ * one. Rows are chunked into statements of at most {@link #batchSize(int)} rows.
+ * <p>
+ * Like a bulk update, the statement bypasses the persistence context: the second level cache of the entity is
+ * invalidated, but the managed instances of the entity are not updated, refresh them or clear the entity manager.
+ */
+public class ExtendJpaBatchUpdateClause {
+
+    // limit of bind parameters in a single statement of the postgresql protocol
+    private static final int MAX_PARAMETERS = Short.MAX_VALUE;
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    // the constraints and defaults following the type in a column definition
+    private static final Pattern COLUMN_CONSTRAINT = Pattern.compile(
+            "\\s+(NOT\\s+NULL|NULL|DEFAULT|UNIQUE|PRIMARY\\s+KEY|CHECK|REFERENCES|CONSTRAINT|COLLATE|GENERATED)\\b.*",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final EntityManager entityManager;
+
+    private final EntityPath<?> entity;
+
+    private final Path<?> keyPath;
+
+    private final List<Path<?>> columns = new ArrayList<>();
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    public ExtendJpaBatchUpdateClause(EntityManager em, EntityPath<?> entity, Path<?> keyPath) {
+        this.entityManager = em;
+        this.entity = entity;
+        this.keyPath = checkProperty(keyPath);
+    }
+
+    /**
+     * Set the columns updated by each row, in the order of the values of {@link #addRow(Object, Object...)}
+     * @param paths
+     * @return
+     */
+    public ExtendJpaBatchUpdateClause set(Path<?>... paths) {
+        if (!rows.isEmpty()) {
+            throw new IllegalStateException("Columns must be set before adding rows");
+        }
+        for (Path<?> path : paths) {
+            columns.add(checkProperty(path));
+        }
+        return this;
+    }
+
+    public ExtendJpaBatchUpdateClause addRow(Object key, Object... values) {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values but got " + values.length);
+        }
+        Object[] row = new Object[values.length + 1];
+        row[0] = key;
+        System.arraycopy(values, 0, row, 1, values.length);
+        rows.add(row);
+        return this;
+    }
+
+    public ExtendJpaBatchUpdateClause batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public long execute() {
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("No columns to update");
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        AbstractEntityPersister persister = (AbstractEntityPersister) session.getFactory()
+                .getMetamodel()
+                .entityPersister(entity.getType());
+
+        List<Path<?>> paths = new ArrayList<>(columns.size() + 1);
+        paths.add(keyPath);
+        paths.addAll(columns);
+
+        String[] columnNames = new String[paths.size()];
+        String[] placeholders = new String[paths.size()];
+        Type[] types = new Type[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            String property = paths.get(i).getMetadata().getName();
+            columnNames[i] = persister.getPropertyColumnNames(property)[0];
+            types[i] = persister.getPropertyType(property);
+            placeholders[i] = getPlaceholder(paths.get(i));
+        }
+
+        HqlStatements.registerBulkOperationCleanup(session, new BulkOperationCleanupAction(session, persister));
+
+        int rowsPerStatement = Math.min(batchSize, MAX_PARAMETERS / paths.size());
+        long result = 0;
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<Object[]> chunk = rows.subList(from, Math.min(rows.size(), from + rowsPerStatement));
+            NativeQuery<?> query = session.createNativeQuery(serialize(persister.getTableName(), columnNames, placeholders, chunk.size()));
+            // only the caches of the entity are affected, instead of all of them for an unknown native statement
+            query.addSynchronizedEntityClass(entity.getType());
+            int position = 1;
+            for (Object[] row : chunk) {
+                for (int i = 0; i < row.length; i++) {
+                    query.setParameter(position++, new TypedParameterValue(types[i], row[i]));
+                }
+            }
+            result += query.executeUpdate();
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "batch update of " + columns + " by " + keyPath + " for " + rows.size() + " rows";
+    }
+
+    private static String serialize(String table, String[] columnNames, String[] placeholders, int rowCount) {
+        StringBuilder builder = new StringBuilder("update ").append(table).append("\nset ");
+        for (int i = 1; i < columnNames.length; i++) {
+            if (i > 1) {
+                builder.append(", ");
+            }
+            builder.append(columnNames[i]).append(" = v.v").append(i - 1);
+        }
+
+        String row = "(" + String.join(", ", placeholders) + ")";
+        builder.append("\nfrom (values ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(row);
+        }
+
+        builder.append(") as v(k");
+        for (int i = 1; i < columnNames.length; i++) {
+            builder.append(", v").append(i - 1);
+        }
+        return builder.append(")\nwhere ").append(table).append(".").append(columnNames[0]).append(" = v.k").toString();
+    }
+
+    /**
+     * Values of a VALUES list are typed by postgresql from the values themselves, parameters bound without
+     * a sql type (postgres enums) would be typed as text, cast them to the type of the column definition when
+     * there's one.
+     */
+    private static String getPlaceholder(Path<?> path) {
+        Column column = path.getAnnotatedElement().getAnnotation(Column.class);
+        if (column == null || column.columnDefinition().isEmpty()) {
+            return "?";
+        }
+        return "cast(? as " + getColumnType(column.columnDefinition()) + ")";
+    }
+
+    /**
+     * @return the type of a column definition, without the constraints and default following it,
+     * {@code "varchar(20) not null default ''"} is {@code "varchar(20)"}
+     */
+    static String getColumnType(String columnDefinition) {
+        return COLUMN_CONSTRAINT.matcher(columnDefinition.trim()).replaceFirst("");
+    }
+
+    private Path<?> checkProperty(Path<?> path) {
+        if (!entity.equals(path.getMetadata().getParent())) {
+            throw new IllegalArgumentException(path + " is not a property of " + entity);
+        }
+        return path;
+    }
+
+}
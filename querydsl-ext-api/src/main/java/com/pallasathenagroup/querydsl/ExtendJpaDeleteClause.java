@@ -0,0 +1,90 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.JoinType;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.dml.DeleteClause;
+import com.querydsl.core.support.QueryMixin;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAProvider;
+import com.querydsl.jpa.impl.JPAUtil;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import org.hibernate.query.internal.QueryImpl;
+
+public class ExtendJpaDeleteClause implements DeleteClause<ExtendJpaDeleteClause> {
+
+    private final QueryMixin<?> queryMixin = new JPAQueryMixin<Void>();
+
+    private final EntityManager entityManager;
+
+    private final EntityPath<?> entity;
+
+    private final JPQLTemplates templates;
+
+    private LockModeType lockMode;
+
+    public ExtendJpaDeleteClause(EntityManager em, EntityPath<?> entity) {
+        this(em, entity, JPAProvider.getTemplates(em));
+    }
+
+    public ExtendJpaDeleteClause(EntityManager em, EntityPath<?> entity, JPQLTemplates templates) {
+        this.entityManager = em;
+        this.entity = entity;
+        this.templates = templates;
+        queryMixin.addJoin(JoinType.DEFAULT, entity);
+    }
+
+    @Override
+    public long execute() {
+        return createQuery().executeUpdate();
+    }
+
+    /**
+     * Execute the delete and return the given properties of the deleted rows
+     * @param projections properties of the entity
+     * @return
+     */
+    public List<Tuple> executeReturning(Expression<?>... projections) {
+        return ReturningExecutor.execute(entityManager, createQuery(), entity, projections);
+    }
+
+    private ExtendQueryImpl<?> createQuery() {
+        JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
+        serializer.serializeForDelete(queryMixin.getMetadata());
+
+        ExtendQueryImpl<?> query = new ExtendQueryImpl<>(
+                (QueryImpl) entityManager.createQuery(serializer.toString()));
+        if (lockMode != null) {
+            query.setLockMode(lockMode);
+        }
+        JPAUtil.setConstants(query, serializer.getConstants(), queryMixin.getMetadata().getParams());
+        return query;
+    }
+
+    @Override
+    public ExtendJpaDeleteClause where(Predicate... o) {
+        for (Predicate p : o) {
+            queryMixin.where(p);
+        }
+        return this;
+    }
+
+    public ExtendJpaDeleteClause setLockMode(LockModeType lockMode) {
+        this.lockMode = lockMode;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
+        serializer.serializeForDelete(queryMixin.getMetadata());
+        return serializer.toString();
+    }
+
+}
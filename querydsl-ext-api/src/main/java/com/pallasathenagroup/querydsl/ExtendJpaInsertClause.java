@@ -0,0 +1,336 @@
+package com.pallasathenagroup.querydsl;
+
+import antlr.RecognitionException;
+import antlr.collections.AST;
+import com.pallasathenagroup.querydsl.json.JsonPath;
+import com.querydsl.core.JoinType;
+import com.querydsl.core.support.QueryMixin;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAProvider;
+import com.querydsl.jpa.impl.JPAUtil;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.internal.ast.QuerySyntaxException;
+import org.hibernate.hql.internal.ast.SqlGenerator;
+import org.hibernate.hql.internal.ast.tree.FromElement;
+import org.hibernate.hql.internal.ast.tree.FromReferenceNode;
+import org.hibernate.hql.internal.ast.tree.UpdateStatement;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.internal.QueryImpl;
+import org.hibernate.type.Type;
+
+/**
+ * Insert a row, with an optional {@code ON CONFLICT} action
+ * <pre>
+ * new ExtendJpaInsertClause(entityManager, arrayEntity)
+ *         .set(arrayEntity.id, 1L)
+ *         .set(arrayEntity.sensorNames, new String[] {"Temperature"})
+ *         .onConflict(arrayEntity.id)
+ *         .doUpdate(arrayEntity.sensorNames, arrayEntity.sensorNames.append("Temperature"))
+ *         .execute();
+ * </pre>
+ * The inserted values are bound with the hibernate types mapped for their properties. The expressions of
+ * {@code DO UPDATE} are serialized by {@link ExtendJPQLSerializer} as an HQL update and translated by hibernate,
+ * so all the functions of this library (jsonb_set, ||, ARRAY_APPEND, HSTORE_CONCAT...) can be used. The table is
+ * aliased and the columns of the expressions are qualified with the alias, they refer to the existing row.
+ * Values of the row proposed for insertion are set with {@link #doUpdateExcluded(Path[])}.
+ * <p>
+ * Generated identifiers are not generated by the clause, they have to be set.
+ */
+public class ExtendJpaInsertClause {
+
+    private final QueryMixin<?> queryMixin = new JPAQueryMixin<Void>();
+
+    private final Map<Path<?>, Object> inserts = new LinkedHashMap<>();
+
+    private final List<Path<?>> conflictTarget = new ArrayList<>();
+
+    private final List<Path<?>> excludedUpdates = new ArrayList<>();
+
+    private final Map<Path<?>, Expression<?>> updates = new LinkedHashMap<>();
+    private final Set<ExtendJpaUpdateClause.JsonUpdatePair> jsonUpdates = new LinkedHashSet<>();
+
+    private final EntityManager entityManager;
+
+    private final EntityPath<?> entity;
+
+    private final JPQLTemplates templates;
+
+    private boolean onConflict;
+
+    private boolean doNothing;
+
+    public ExtendJpaInsertClause(EntityManager em, EntityPath<?> entity) {
+        this(em, entity, JPAProvider.getTemplates(em));
+    }
+
+    public ExtendJpaInsertClause(EntityManager em, EntityPath<?> entity, JPQLTemplates templates) {
+        this.entityManager = em;
+        this.entity = entity;
+        this.templates = templates;
+        queryMixin.addJoin(JoinType.DEFAULT, entity);
+    }
+
+    public <T> ExtendJpaInsertClause set(Path<T> path, T value) {
+        inserts.put(checkProperty(path), value);
+        return this;
+    }
+
+    public <T> ExtendJpaInsertClause setNull(Path<T> path) {
+        inserts.put(checkProperty(path), null);
+        return this;
+    }
+
+    /**
+     * Add an {@code ON CONFLICT} clause, without paths the action applies to any conflict
+     * @param paths the unique columns of the conflict
+     * @return
+     */
+    public ExtendJpaInsertClause onConflict(Path<?>... paths) {
+        onConflict = true;
+        for (Path<?> path : paths) {
+            conflictTarget.add(checkProperty(path));
+        }
+        return this;
+    }
+
+    public ExtendJpaInsertClause doNothing() {
+        checkOnConflict();
+        doNothing = true;
+        return this;
+    }
+
+    public <T> ExtendJpaInsertClause doUpdate(Path<T> path, Expression<? extends T> expression) {
+        checkOnConflict();
+        updates.put(checkProperty(path), expression);
+        return this;
+    }
+
+    public <T> ExtendJpaInsertClause doUpdate(Path<T> path, T value) {
+        if (value == null) {
+            return doUpdate(path, Expressions.nullExpression(path));
+        }
+        return doUpdate(path, Expressions.constant(value));
+    }
+
+    public ExtendJpaInsertClause doUpdate(JsonPath<?> path, Expression<?> expression) {
+        checkOnConflict();
+        updates.put(checkProperty(path), expression);
+        return this;
+    }
+
+    public ExtendJpaInsertClause doUpdate(JsonPath<?> path, String jsonPath, Object expression) {
+        checkOnConflict();
+        jsonUpdates.add(new ExtendJpaUpdateClause.JsonUpdatePair(checkProperty(path), jsonPath.split("\\."), expression));
+        return this;
+    }
+
+    /**
+     * Update the columns to the values proposed for insertion, {@code col = excluded.col}
+     * @param paths
+     * @return
+     */
+    public ExtendJpaInsertClause doUpdateExcluded(Path<?>... paths) {
+        checkOnConflict();
+        for (Path<?> path : paths) {
+            excludedUpdates.add(checkProperty(path));
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of inserted or updated rows
+     */
+    public long execute() {
+        if (inserts.isEmpty()) {
+            throw new IllegalStateException("No values to insert");
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        session.flush();
+
+        AbstractEntityPersister persister = (AbstractEntityPersister) session.getFactory().getMetamodel()
+                .entityPersister(entity.getType());
+
+        String alias = null;
+        StringBuilder conflictAction = new StringBuilder();
+        ExtendQueryImpl<?> updateQuery = null;
+        List<ParameterSpecification> updateParameters = Collections.emptyList();
+        if (onConflict) {
+            conflictAction.append("\non conflict");
+            if (!conflictTarget.isEmpty()) {
+                conflictAction.append(" (").append(String.join(", ", getColumns(persister, conflictTarget))).append(")");
+            }
+
+            if (doNothing || (updates.isEmpty() && jsonUpdates.isEmpty() && excludedUpdates.isEmpty())) {
+                conflictAction.append(" do nothing");
+            } else {
+                conflictAction.append(" do update");
+                boolean first = true;
+                if (!updates.isEmpty() || !jsonUpdates.isEmpty()) {
+                    updateQuery = createUpdateQuery();
+                    HqlSqlWalker walker = HqlStatements.getSingleTableWalker(session, updateQuery.getExpandedQueryString());
+                    if (walker == null) {
+                        throw new UnsupportedOperationException("On conflict update is not supported for entities on more than one table");
+                    }
+                    FromElement target = walker.getFinalFromClause().getFromElement();
+                    alias = target.getTableAlias();
+                    AST setClause = ((UpdateStatement) walker.getAST()).getSetClause();
+                    AssignmentGenerator generator = new AssignmentGenerator(session.getFactory(), target, setClause);
+                    try {
+                        generator.setClause(setClause);
+                    } catch (RecognitionException e) {
+                        throw QuerySyntaxException.convert(e);
+                    }
+                    generator.getParseErrorHandler().throwQueryException();
+                    conflictAction.append(generator.getSQL());
+                    updateParameters = generator.getCollectedParameters();
+                    first = false;
+                }
+                for (String column : getColumns(persister, excludedUpdates)) {
+                    conflictAction.append(first ? " set " : ", ");
+                    conflictAction.append(column).append(" = excluded.").append(column);
+                    first = false;
+                }
+            }
+        }
+
+        StringBuilder sql = new StringBuilder("insert into ").append(persister.getTableName());
+        if (alias != null) {
+            sql.append(" as ").append(alias);
+        }
+        sql.append(" (");
+        StringBuilder placeholders = new StringBuilder();
+        List<Type> types = new ArrayList<>(inserts.size());
+        for (Path<?> path : inserts.keySet()) {
+            String property = path.getMetadata().getName();
+            types.add(persister.getPropertyType(property));
+            for (String column : persister.getPropertyColumnNames(property)) {
+                if (placeholders.length() > 0) {
+                    sql.append(", ");
+                    placeholders.append(", ");
+                }
+                sql.append(column);
+                placeholders.append("?");
+            }
+        }
+        sql.append(") values (").append(placeholders).append(")").append(conflictAction);
+
+        HqlStatements.registerBulkOperationCleanup(session, new BulkOperationCleanupAction(session, persister));
+
+        PreparedStatement statement = null;
+        try {
+            statement = session.getJdbcCoordinator().getStatementPreparer().prepareStatement(sql.toString(), false);
+            int position = 1;
+            int i = 0;
+            for (Object value : inserts.values()) {
+                Type type = types.get(i++);
+                type.nullSafeSet(statement, value, position, session);
+                position += type.getColumnSpan(session.getFactory());
+            }
+            if (updateQuery != null) {
+                HqlStatements.bind(statement, updateParameters, updateQuery.getQueryParameters(), session, position);
+            }
+            return session.getJdbcCoordinator().getResultSetReturn().executeUpdate(statement);
+        } catch (SQLException e) {
+            throw session.getJdbcServices().getSqlExceptionHelper().convert(e, "could not execute insert", sql.toString());
+        } finally {
+            HqlStatements.release(session, statement);
+        }
+    }
+
+    private ExtendQueryImpl<?> createUpdateQuery() {
+        ExtendJPQLSerializer serializer = new ExtendJPQLSerializer(templates, entityManager);
+        serializer.serializeForUpdate(queryMixin.getMetadata(), updates, jsonUpdates);
+
+        // use custom query impl to allow set List as a value, instead of `list of values`
+        ExtendQueryImpl<?> query = new ExtendQueryImpl<>(
+                (QueryImpl) entityManager.createQuery(serializer.toString()));
+        JPAUtil.setConstants(query, serializer.getConstants(), queryMixin.getMetadata().getParams());
+        return query;
+    }
+
+    /**
+     * Generate the assignments of an HQL update as a {@code SET} clause of {@code DO UPDATE}. Both the existing row
+     * and {@code EXCLUDED} are in scope there, the columns of the existing row are qualified by the alias of the table,
+     * except the assigned columns which can't be qualified.
+     */
+    private static final class AssignmentGenerator extends SqlGenerator {
+
+        private final FromElement target;
+
+        private final Set<AST> assignedColumns = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        AssignmentGenerator(SessionFactoryImplementor factory, FromElement target, AST setClause) {
+            super(factory);
+            this.target = target;
+            for (AST assignment = setClause.getFirstChild(); assignment != null; assignment = assignment.getNextSibling()) {
+                assignedColumns.add(assignment.getFirstChild());
+            }
+        }
+
+        @Override
+        protected void out(AST n) {
+            if (n instanceof FromReferenceNode && ((FromReferenceNode) n).getFromElement() == target
+                    && !assignedColumns.contains(n)) {
+                // the columns of a top level update are not qualified, "col" or "(col1, col2)"
+                out(n.getText().replaceAll("(^\\(?|, )", "$1" + target.getTableAlias() + "."));
+            } else {
+                super.out(n);
+            }
+        }
+
+    }
+
+    private static List<String> getColumns(AbstractEntityPersister persister, List<Path<?>> paths) {
+        List<String> columns = new ArrayList<>();
+        for (Path<?> path : paths) {
+            for (String column : persister.getPropertyColumnNames(path.getMetadata().getName())) {
+                columns.add(column);
+            }
+        }
+        return columns;
+    }
+
+    private <P extends Path<?>> P checkProperty(P path) {
+        if (!entity.equals(path.getMetadata().getParent())) {
+            throw new IllegalArgumentException(path + " is not a property of " + entity);
+        }
+        return path;
+    }
+
+    private void checkOnConflict() {
+        if (!onConflict) {
+            throw new IllegalStateException("onConflict must be called before the conflict action");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "insert into " + entity + " " + inserts.keySet() + (onConflict ? " on conflict " + conflictTarget : "");
+    }
+
+    public boolean isEmpty() {
+        return inserts.isEmpty();
+    }
+
+}
@@ -2,6 +2,7 @@ package com.pallasathenagroup.querydsl;
 
 import com.pallasathenagroup.querydsl.json.JsonPath;
 import com.querydsl.core.JoinType;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.dml.UpdateClause;
 import com.querydsl.core.support.QueryMixin;
 import com.querydsl.core.types.EntityPath;
@@ -13,7 +14,6 @@ import com.querydsl.jpa.JPAQueryMixin;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
 import com.querydsl.jpa.impl.JPAProvider;
-import com.querydsl.jpa.impl.JPAUtil;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -23,8 +23,6 @@ import java.util.Objects;
 import java.util.Set;
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
-import javax.persistence.Query;
-import org.hibernate.query.internal.QueryImpl;
 
 public class ExtendJpaUpdateClause implements UpdateClause<ExtendJpaUpdateClause> {
 
@@ -35,6 +33,8 @@ public class ExtendJpaUpdateClause implements UpdateClause<ExtendJpaUpdateClause
 
     private final EntityManager entityManager;
 
+    private final EntityPath<?> entity;
+
     private final JPQLTemplates templates;
 
     private LockModeType lockMode;
@@ -45,23 +45,35 @@ public class ExtendJpaUpdateClause implements UpdateClause<ExtendJpaUpdateClause
 
     public ExtendJpaUpdateClause(EntityManager em, EntityPath<?> entity, JPQLTemplates templates) {
         this.entityManager = em;
+        this.entity = entity;
         this.templates = templates;
         queryMixin.addJoin(JoinType.DEFAULT, entity);
     }
 
     @Override
     public long execute() {
+        return prepare().execute(entityManager);
+    }
+
+    /**
+     * Execute the update and return the given properties of the updated rows, as they are after the update
+     * @param projections properties of the entity
+     * @return
+     */
+    public List<Tuple> executeReturning(Expression<?>... projections) {
+        return ReturningExecutor.execute(entityManager, prepare().createQuery(entityManager), entity, projections);
+    }
+
+    /**
+     * Serialize the update once, to execute it many times with different values bound to its
+     * {@link com.querydsl.core.types.dsl.Param}s.
+     * @return
+     */
+    public PreparedUpdate prepare() {
         ExtendJPQLSerializer serializer = new ExtendJPQLSerializer(templates, entityManager);
         serializer.serializeForUpdate(queryMixin.getMetadata(), updates, jsonUpdates);
-
-        // use custom query impl to allow set List as a value, instead of `list of values`
-        Query query = new ExtendQueryImpl<>(
-                (QueryImpl) entityManager.createQuery(serializer.toString()));
-        if (lockMode != null) {
-            query.setLockMode(lockMode);
-        }
-        JPAUtil.setConstants(query, serializer.getConstants(), queryMixin.getMetadata().getParams());
-        return query.executeUpdate();
+        return new PreparedUpdate(serializer.toString(), serializer.getConstants(),
+                queryMixin.getMetadata().getParams(), lockMode);
     }
 
     @Override
@@ -45,6 +45,14 @@ public class ExtendQueryImpl<R> extends QueryImpl<R> {
         return this;
     }
 
+    /**
+     * The query string with the collection valued parameters expanded, as it is translated to SQL
+     * @return
+     */
+    public String getExpandedQueryString() {
+        return getQueryParameterBindings().expandListValuedParameters(getQueryString(), getProducer());
+    }
+
     private boolean isRegisteredAsBasicType(Class cl) {
         return getProducer().getFactory().getTypeResolver().basic( cl.getName() ) != null;
     }
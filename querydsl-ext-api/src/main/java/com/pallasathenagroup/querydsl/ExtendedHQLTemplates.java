@@ -67,6 +67,15 @@ public class ExtendedHQLTemplates extends HQLTemplates {
         templates.add(PeriodOps.SUM, "PERIOD_SUM({0})");
 
         templates.add(JsonOps.CONTAINS_KEY, "JSON_CONTAINS_KEY({0}, {1}) = TRUE");
+        templates.add(JsonOps.HAS_KEY, "JSON_HAS_KEY({0}, {1}) = TRUE");
+        templates.add(JsonOps.CONTAINS_ANY_KEY, "JSON_CONTAINS_ANY_KEY({0}, {1}) = TRUE");
+        templates.add(JsonOps.CONTAINS_ALL_KEYS, "JSON_CONTAINS_ALL_KEYS({0}, {1}) = TRUE");
+        templates.add(JsonOps.JSON_PATH_EXISTS, "JSON_PATH_EXISTS({0}, {1}) = TRUE");
+        templates.add(JsonOps.JSON_PATH_EXISTS_VARS, "JSON_PATH_EXISTS_VARS({0}, {1}, {2}) = TRUE");
+        templates.add(JsonOps.JSON_PATH_MATCH, "JSON_PATH_MATCH({0}, {1}) = TRUE");
+        templates.add(JsonOps.JSON_PATH_MATCH_VARS, "JSON_PATH_MATCH_VARS({0}, {1}, {2}) = TRUE");
+        templates.add(JsonOps.JSON_PATH_QUERY_FIRST, "JSON_PATH_QUERY_FIRST({0}, {1})");
+        templates.add(JsonOps.JSON_PATH_QUERY_FIRST_VARS, "JSON_PATH_QUERY_FIRST_VARS({0}, {1}, {2})");
         templates.add(JsonOps.CONTAINS, "JSON_CONTAINS({0}, {1}) = TRUE");
         templates.add(JsonOps.GET, "JSON_GET({0}, {1})");
         templates.add(JsonOps.GET_TEXT, "JSON_GET_TEXT({0}, {1})");
@@ -81,6 +90,17 @@ public class ExtendedHQLTemplates extends HQLTemplates {
         templates.add(JsonOps.JSON_DELETE_INDEX, "JSON_DELETE_INDEX({0}, {1})");
         templates.add(JsonOps.JSON_DELETE_PATH, "JSON_DELETE_PATH({0}, {1})");
         templates.add(JsonOps.SET, "jsonb_set({0}, {1}, {2})");
+        templates.add(JsonOps.RAW_JSON, "RAW_JSON({0})");
+        templates.add(JsonOps.JSON_AGG, "JSON_AGG({0})");
+        templates.add(JsonOps.JSON_AGG_FILTER, "JSON_AGG_FILTER({0})");
+        templates.add(JsonOps.JSON_OBJECT_AGG, "JSON_OBJECT_AGG({0})");
+        templates.add(JsonOps.JSON_OBJECT_AGG_FILTER, "JSON_OBJECT_AGG_FILTER({0})");
+        templates.add(JsonOps.JSON_AGG_ORDER_ASC, "JSON_AGG_ORDER_ASC({0})");
+        templates.add(JsonOps.JSON_AGG_ORDER_ASC_NULLS_FIRST, "JSON_AGG_ORDER_ASC_NULLS_FIRST({0})");
+        templates.add(JsonOps.JSON_AGG_ORDER_ASC_NULLS_LAST, "JSON_AGG_ORDER_ASC_NULLS_LAST({0})");
+        templates.add(JsonOps.JSON_AGG_ORDER_DESC, "JSON_AGG_ORDER_DESC({0})");
+        templates.add(JsonOps.JSON_AGG_ORDER_DESC_NULLS_FIRST, "JSON_AGG_ORDER_DESC_NULLS_FIRST({0})");
+        templates.add(JsonOps.JSON_AGG_ORDER_DESC_NULLS_LAST, "JSON_AGG_ORDER_DESC_NULLS_LAST({0})");
 
         templates.add(HstoreOps.CONTAINS_KEY, "HSTORE_CONTAINS_KEY({0}, {1}) = TRUE");
         templates.add(HstoreOps.MAP_SIZE, "HSTORE_MAP_SIZE({0})");
@@ -96,6 +116,8 @@ public class ExtendedHQLTemplates extends HQLTemplates {
 
         templates.add(CommonOps.CAST, "cast({0} as {1s})");
         templates.add(CommonOps.AS_TEXT, "AS_TEXT({0})");
+        templates.add(CommonOps.IN_ARRAY, "IN_ARRAY({0}, {1}) = TRUE");
+        templates.add(CommonOps.NOT_IN_ARRAY, "NOT_IN_ARRAY({0}, {1}) = TRUE");
     }
 
 }
@@ -17,6 +17,7 @@ import com.pallasathenagroup.querydsl.yearmonth.YearMonthOps;
 import com.querydsl.core.types.Constant;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.core.types.dsl.DateExpression;
 import com.querydsl.core.types.dsl.DateTimeExpression;
@@ -37,6 +38,7 @@ import java.time.Month;
 import java.time.Period;
 import java.time.Year;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.Map;
 
 import static com.pallasathenagroup.querydsl.yearmonth.YearMonthOps.CAST_YEARMONTH;
@@ -144,6 +146,54 @@ public final class HibernateTypesExpressions {
         return new PostgresqlArrayOperation(Expressions.operation(Array.newInstance(expression.getType(), 0).getClass(), ArrayOps.ARRAY_AGG, expression), null);
     }
 
+    /**
+     * Create a {@code expression = ANY(?)} expression. The values are bound as a single array parameter,
+     * so the query string does not change with the number of values.
+     *
+     * @param expression expression of a type with an array type, {@code UUID}, {@code String}, {@code Integer},
+     *                   {@code Long}, {@code Double}, {@code Timestamp} or {@code Date}, use
+     *                   {@link #inArray(Expression, String, Collection)} for enums
+     * @param values values to compare with
+     * @return expression = ANY(values)
+     * @throws IllegalArgumentException if the type of the expression has no array type
+     */
+    public static <T> BooleanExpression inArray(Expression<T> expression, Collection<? extends T> values) {
+        return inArray(expression, null, values);
+    }
+
+    /**
+     * Create a {@code expression = ANY(?)} expression for a PostgreSQL enum type.
+     *
+     * @param expression enum expression
+     * @param enumType name of the PostgreSQL enum type, for example {@code sensor_state}
+     * @param values values to compare with
+     * @return expression = ANY(values)
+     */
+    public static <T> BooleanExpression inArray(Expression<T> expression, String enumType, Collection<? extends T> values) {
+        return Expressions.booleanOperation(CommonOps.IN_ARRAY, expression, arrayConstant(expression, enumType, values));
+    }
+
+    /**
+     * Create a {@code expression <> ALL(?)} expression, the negation of {@link #inArray(Expression, Collection)}.
+     */
+    public static <T> BooleanExpression notInArray(Expression<T> expression, Collection<? extends T> values) {
+        return notInArray(expression, null, values);
+    }
+
+    public static <T> BooleanExpression notInArray(Expression<T> expression, String enumType, Collection<? extends T> values) {
+        return Expressions.booleanOperation(CommonOps.NOT_IN_ARRAY, expression, arrayConstant(expression, enumType, values));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Expression<?> arrayConstant(Expression<T> expression, String enumType, Collection<? extends T> values) {
+        if (expression.getType().isEnum() && enumType == null) {
+            throw new IllegalArgumentException("The PostgreSQL enum type of " + expression.getType().getName()
+                    + " is required, use inArray(expression, enumType, values)");
+        }
+        T[] elements = values.toArray((T[]) Array.newInstance(expression.getType(), values.size()));
+        return Expressions.constant(PostgresqlArrayExpression.getTypedParameterValue(elements, enumType));
+    }
+
     public static HstoreExpression asHstore(Expression<Map<String, String>> expression) {
         return new HstoreExpression(expression);
     }
@@ -0,0 +1,122 @@
+package com.pallasathenagroup.querydsl;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.hql.internal.antlr.HqlSqlTokenTypes;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
+import org.hibernate.hql.internal.ast.exec.DeleteExecutor;
+import org.hibernate.hql.internal.ast.exec.SimpleUpdateExecutor;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.hibernate.param.ParameterSpecification;
+
+/**
+ * Execute the SQL translated from an HQL update or delete on the JDBC connection of the session,
+ * the way hibernate's own bulk executor does, for the statements hibernate doesn't support (batches, returning, upserts).
+ */
+final class HqlStatements {
+
+    private HqlStatements() {
+    }
+
+    /**
+     * The SQL of an HQL update or delete on a single table, with the parameters in the order of the SQL.
+     * The translator of a bulk statement doesn't hold its SQL, it is generated by hibernate's statement executor,
+     * which is why the SQL is taken from an executor of the same kind as the one hibernate uses.
+     */
+    static final class SingleStatement {
+
+        final String sql;
+        final List<ParameterSpecification> parameterSpecifications;
+        final Set<Serializable> querySpaces;
+
+        private SingleStatement(String sql, List<ParameterSpecification> parameterSpecifications, Set<Serializable> querySpaces) {
+            this.sql = sql;
+            this.parameterSpecifications = parameterSpecifications;
+            this.querySpaces = querySpaces;
+        }
+
+    }
+
+    /**
+     * @return the statement, or {@code null} if the HQL is translated to more than one SQL statement
+     */
+    static SingleStatement getSingleStatement(SessionImplementor session, String hql) {
+        HqlSqlWalker walker = getSingleTableWalker(session, hql);
+        if (walker == null) {
+            return null;
+        }
+        if (walker.getStatementType() == HqlSqlTokenTypes.UPDATE) {
+            SimpleUpdateExecutor executor = new SimpleUpdateExecutor(walker);
+            return new SingleStatement(executor.getSql(), executor.getParameterSpecifications(), walker.getQuerySpaces());
+        } else if (walker.getStatementType() == HqlSqlTokenTypes.DELETE) {
+            DeleteExecutor executor = new DeleteExecutor(walker);
+            return new SingleStatement(executor.getSql(), executor.getParameterSpecifications(), walker.getQuerySpaces());
+        }
+        return null;
+    }
+
+    /**
+     * @return the walker holding the SQL tree of the HQL statement, or {@code null} if it is translated to more than
+     * one SQL statement or the entity is mapped to more than one table
+     */
+    static HqlSqlWalker getSingleTableWalker(SessionImplementor session, String hql) {
+        HQLQueryPlan plan = session.getFactory().getQueryPlanCache()
+                .getHQLQueryPlan(hql, false, Collections.emptyMap());
+        QueryTranslator[] translators = plan.getTranslators();
+        if (translators.length != 1 || !(translators[0] instanceof QueryTranslatorImpl)
+                || translators[0].collectSqlStrings().size() != 1) {
+            return null;
+        }
+        HqlSqlWalker walker = ((QueryTranslatorImpl) translators[0]).getSqlAST().getWalker();
+        if (walker.getFinalFromClause().getFromElement().getQueryable().isMultiTable()) {
+            return null;
+        }
+        return walker;
+    }
+
+    static void registerBulkOperationCleanup(SessionImplementor session, SingleStatement statement) {
+        registerBulkOperationCleanup(session, new BulkOperationCleanupAction(session, statement.querySpaces));
+    }
+
+    static void registerBulkOperationCleanup(SessionImplementor session, BulkOperationCleanupAction action) {
+        if (session.isEventSource()) {
+            ((EventSource) session).getActionQueue().addAction(action);
+        } else {
+            action.getAfterTransactionCompletionProcess().doAfterTransactionCompletion(true, session);
+        }
+    }
+
+    static void bind(PreparedStatement statement, SingleStatement singleStatement, QueryParameters queryParameters,
+                     SessionImplementor session) throws SQLException {
+        bind(statement, singleStatement.parameterSpecifications, queryParameters, session, 1);
+    }
+
+    /**
+     * @return the position after the last bound parameter
+     */
+    static int bind(PreparedStatement statement, List<ParameterSpecification> parameterSpecifications,
+                    QueryParameters queryParameters, SessionImplementor session, int position) throws SQLException {
+        for (ParameterSpecification parameterSpecification : parameterSpecifications) {
+            position += parameterSpecification.bind(statement, queryParameters, session, position);
+        }
+        return position;
+    }
+
+    static void release(SessionImplementor session, PreparedStatement statement) {
+        if (statement != null) {
+            session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release(statement);
+            session.getJdbcCoordinator().afterStatementExecution();
+        }
+    }
+
+}
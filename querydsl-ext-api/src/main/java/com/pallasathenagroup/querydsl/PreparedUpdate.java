@@ -0,0 +1,80 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.jpa.impl.JPAUtil;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import org.hibernate.query.internal.QueryImpl;
+
+/**
+ * An update serialized once by {@link ExtendJpaUpdateClause#prepare()} and executed many times.
+ * Values that change between executions are declared as {@link com.querydsl.core.types.dsl.Param} in the
+ * update clause and bound with {@link #bind(ParamExpression, Object)} before each {@link #execute(EntityManager)},
+ * the other constants are kept as they were when the update was prepared.
+ * <p>
+ * Bound values are accepted the same way {@link ExtendQueryImpl} accepts them, so a
+ * {@link org.hibernate.jpa.TypedParameterValue} or a {@link java.util.List} for a list array column can be bound.
+ * The bindings are kept between executions, a prepared update is not thread safe.
+ */
+public class PreparedUpdate {
+
+    private final String queryString;
+
+    private final List<Object> constants;
+
+    private final Map<ParamExpression<?>, Object> params;
+
+    private final LockModeType lockMode;
+
+    PreparedUpdate(String queryString, List<Object> constants, Map<ParamExpression<?>, Object> params, LockModeType lockMode) {
+        this.queryString = queryString;
+        this.constants = Collections.unmodifiableList(constants);
+        this.params = new HashMap<>(params);
+        this.lockMode = lockMode;
+    }
+
+    public <T> PreparedUpdate bind(ParamExpression<T> param, T value) {
+        params.put(param, value);
+        return this;
+    }
+
+    /**
+     * Bind a value that has no java type matching the param, as a {@link org.hibernate.jpa.TypedParameterValue}
+     * @param param
+     * @param value
+     * @return
+     */
+    public PreparedUpdate bindRaw(ParamExpression<?> param, Object value) {
+        params.put(param, value);
+        return this;
+    }
+
+    public long execute(EntityManager entityManager) {
+        return createQuery(entityManager).executeUpdate();
+    }
+
+    ExtendQueryImpl<?> createQuery(EntityManager entityManager) {
+        // use custom query impl to allow set List as a value, instead of `list of values`
+        ExtendQueryImpl<?> query = new ExtendQueryImpl<>(
+                (QueryImpl) entityManager.createQuery(queryString));
+        if (lockMode != null) {
+            query.setLockMode(lockMode);
+        }
+        JPAUtil.setConstants(query, constants, params);
+        return query;
+    }
+
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String toString() {
+        return queryString;
+    }
+
+}
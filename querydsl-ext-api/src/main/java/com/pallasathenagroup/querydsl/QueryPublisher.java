@@ -0,0 +1,233 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.jpa.impl.AbstractJPAQuery;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+
+/**
+ * Publish the results of a query, read from a server side cursor as the subscribers request them
+ * <pre>
+ * new QueryPublisher&lt;&gt;(entityManagerFactory,
+ *         entityManager -&gt; new JPAQuery&lt;&gt;(entityManager).select(jsonEntity.id, jsonEntity.document).from(jsonEntity),
+ *         executor)
+ *         .subscribe(subscriber);
+ * </pre>
+ * Each subscription opens its own entity manager and read only transaction, and streams the query with
+ * {@link QueryStreams}, so rows are fetched {@code fetchSize} at a time and only when the demand of the subscriber
+ * needs more rows. All the blocking work, opening the cursor, fetching rows and closing it, runs on the executor,
+ * the calls to {@link Flow.Subscription#request(long)} and {@link Flow.Subscription#cancel()} never block.
+ * <p>
+ * The signals of a subscription are serialized, but may be delivered by different threads of the executor.
+ * The resources of a subscription are released on completion, error or cancellation. A subscriber throwing from
+ * {@code onNext} or {@code onComplete} breaks the rule 2.13 of reactive streams: its subscription is cancelled, and
+ * the exception is rethrown to the executor instead of being signalled to the subscriber.
+ */
+public class QueryPublisher<T> implements Flow.Publisher<T> {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Function<EntityManager, ? extends AbstractJPAQuery<T, ?>> queryFactory;
+
+    private final Executor executor;
+
+    private final int fetchSize;
+
+    public QueryPublisher(EntityManagerFactory entityManagerFactory,
+                          Function<EntityManager, ? extends AbstractJPAQuery<T, ?>> queryFactory,
+                          Executor executor) {
+        this(entityManagerFactory, queryFactory, executor, QueryStreams.DEFAULT_FETCH_SIZE);
+    }
+
+    public QueryPublisher(EntityManagerFactory entityManagerFactory,
+                          Function<EntityManager, ? extends AbstractJPAQuery<T, ?>> queryFactory,
+                          Executor executor,
+                          int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryFactory = queryFactory;
+        this.executor = executor;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new QuerySubscription(subscriber));
+    }
+
+    private final class QuerySubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        // number of signals not yet handled by the drain loop, only one thread drains at a time
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        // confined to the drain loop
+        private EntityManager entityManager;
+
+        private Stream<T> stream;
+
+        private Iterator<T> iterator;
+
+        private boolean done;
+
+        QuerySubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " elements, the request must be positive");
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // still the owner of the drain loop
+                    fail(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                done = true;
+                close();
+                return;
+            }
+            if (invalidRequest != null) {
+                fail(invalidRequest);
+                return;
+            }
+
+            while (!cancelled && demand.get() > 0) {
+                T next;
+                try {
+                    if (iterator == null) {
+                        open();
+                    }
+                    if (!iterator.hasNext()) {
+                        done = true;
+                        close();
+                        next = null;
+                    } else {
+                        next = iterator.next();
+                    }
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+
+                try {
+                    if (done) {
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    subscriber.onNext(next);
+                } catch (RuntimeException e) {
+                    // the subscriber is not signalled again, the subscription is cancelled
+                    done = true;
+                    try {
+                        close();
+                    } catch (RuntimeException closeException) {
+                        e.addSuppressed(closeException);
+                    }
+                    throw e;
+                }
+            }
+
+            if (cancelled) {
+                done = true;
+                close();
+            }
+        }
+
+        private void open() {
+            entityManager = entityManagerFactory.createEntityManager();
+            // postgresql only uses a cursor in a transaction
+            entityManager.getTransaction().begin();
+            stream = QueryStreams.stream(entityManager, queryFactory.apply(entityManager), fetchSize);
+            iterator = stream.iterator();
+        }
+
+        private void fail(Throwable e) {
+            done = true;
+            try {
+                close();
+            } finally {
+                subscriber.onError(e);
+            }
+        }
+
+        private void close() {
+            try {
+                if (stream != null) {
+                    stream.close();
+                }
+            } finally {
+                stream = null;
+                iterator = null;
+                if (entityManager != null) {
+                    EntityManager closed = entityManager;
+                    entityManager = null;
+                    try {
+                        EntityTransaction transaction = closed.getTransaction();
+                        if (transaction.isActive()) {
+                            transaction.rollback();
+                        }
+                    } finally {
+                        closed.close();
+                    }
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.AbstractJPAQuery;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.hibernate.MappingException;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.proxy.HibernateProxy;
+
+/**
+ * Stream the results of a query from a server side cursor with bounded memory, for {@link com.querydsl.jpa.impl.JPAQuery}
+ * and the blaze persistence queries using {@link ExtendedJPQLNextTemplates}.
+ * <p>
+ * The query is executed read only with the given fetch size, so the rows are fetched from the cursor
+ * {@code fetchSize} at a time and no snapshot is kept for the loaded entities. The entities of the rows
+ * (the row itself, or the elements of a {@link Tuple} or array row) are detached from the persistence context
+ * once the next {@code fetchSize} rows have been consumed, the scalar values of the rows are left as is.
+ * <p>
+ * PostgreSQL only uses a cursor inside a transaction, the stream must be consumed before the transaction ends
+ * and closed, preferably with try-with-resources.
+ */
+public final class QueryStreams {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private QueryStreams() {
+    }
+
+    public static <T> Stream<T> stream(EntityManager entityManager, AbstractJPAQuery<T, ?> query) {
+        return stream(entityManager, query, DEFAULT_FETCH_SIZE);
+    }
+
+    public static <T> Stream<T> stream(EntityManager entityManager, AbstractJPAQuery<T, ?> query, int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        query.setHint(QueryHints.FETCH_SIZE, fetchSize);
+        query.setHint(QueryHints.READ_ONLY, true);
+        return query.stream().peek(new Detacher<>(entityManager.unwrap(SessionImplementor.class), fetchSize));
+    }
+
+    private static final class Detacher<T> implements Consumer<T> {
+
+        private final SessionImplementor session;
+
+        private final int chunkSize;
+
+        private final List<Object> entities = new ArrayList<>();
+
+        // whether the classes of the values are entities, Session.contains throws for the other objects
+        private final Map<Class<?>, Boolean> entityClasses = new HashMap<>();
+
+        private int rows;
+
+        Detacher(SessionImplementor session, int chunkSize) {
+            this.session = session;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void accept(T row) {
+            if (rows++ == chunkSize) {
+                // the rows of the previous chunk have been processed
+                for (Object entity : entities) {
+                    session.detach(entity);
+                }
+                entities.clear();
+                rows = 1;
+            }
+
+            if (row instanceof Tuple) {
+                addEntities(((Tuple) row).toArray());
+            } else if (row instanceof Object[]) {
+                addEntities((Object[]) row);
+            } else {
+                addEntity(row);
+            }
+        }
+
+        private void addEntities(Object[] values) {
+            for (Object value : values) {
+                addEntity(value);
+            }
+        }
+
+        private void addEntity(Object value) {
+            if (value != null && isEntity(value) && session.contains(value)) {
+                entities.add(value);
+            }
+        }
+
+        private boolean isEntity(Object value) {
+            return value instanceof HibernateProxy || entityClasses.computeIfAbsent(value.getClass(), this::hasEntityPersister);
+        }
+
+        private boolean hasEntityPersister(Class<?> type) {
+            try {
+                session.getFactory().getMetamodel().entityPersister(type);
+                return true;
+            } catch (MappingException e) {
+                return false;
+            }
+        }
+
+    }
+
+}
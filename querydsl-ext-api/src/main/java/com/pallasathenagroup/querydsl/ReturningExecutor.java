@@ -0,0 +1,88 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * Execute an update or delete with a {@code RETURNING} clause, the returned columns are read with the hibernate
+ * types mapped for the properties, the same way they are read by a select.
+ */
+final class ReturningExecutor {
+
+    private ReturningExecutor() {
+    }
+
+    static List<Tuple> execute(EntityManager entityManager, ExtendQueryImpl<?> query, EntityPath<?> entity,
+                               Expression<?>... projections) {
+        if (projections.length == 0) {
+            throw new IllegalArgumentException("No projections to return");
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        session.flush();
+
+        HqlStatements.SingleStatement singleStatement = HqlStatements.getSingleStatement(session, query.getExpandedQueryString());
+        if (singleStatement == null) {
+            throw new UnsupportedOperationException("Returning is not supported for statements on more than one table");
+        }
+
+        AbstractEntityPersister persister = (AbstractEntityPersister) session.getFactory().getMetamodel()
+                .entityPersister(entity.getType());
+        Type[] types = new Type[projections.length];
+        String[][] aliases = new String[projections.length][];
+        StringBuilder sql = new StringBuilder(singleStatement.sql).append(" returning ");
+        for (int i = 0; i < projections.length; i++) {
+            if (!(projections[i] instanceof Path) || !entity.equals(((Path<?>) projections[i]).getMetadata().getParent())) {
+                throw new IllegalArgumentException(projections[i] + " is not a property of " + entity);
+            }
+            String property = ((Path<?>) projections[i]).getMetadata().getName();
+            String[] columns = persister.getPropertyColumnNames(property);
+            types[i] = persister.getPropertyType(property);
+            aliases[i] = new String[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                aliases[i][j] = "r" + i + "_" + j;
+                if (i > 0 || j > 0) {
+                    sql.append(", ");
+                }
+                sql.append(columns[j]).append(" as ").append(aliases[i][j]);
+            }
+        }
+
+        HqlStatements.registerBulkOperationCleanup(session, singleStatement);
+
+        QTuple tuple = Projections.tuple(projections);
+        PreparedStatement statement = null;
+        try {
+            statement = session.getJdbcCoordinator().getStatementPreparer().prepareStatement(sql.toString(), false);
+            HqlStatements.bind(statement, singleStatement, query.getQueryParameters(), session);
+            ResultSet resultSet = session.getJdbcCoordinator().getResultSetReturn().extract(statement);
+            List<Tuple> result = new ArrayList<>();
+            while (resultSet.next()) {
+                Object[] row = new Object[projections.length];
+                for (int i = 0; i < projections.length; i++) {
+                    row[i] = types[i].nullSafeGet(resultSet, aliases[i], session, null);
+                }
+                result.add(tuple.newInstance(row));
+            }
+            return result;
+        } catch (SQLException e) {
+            throw session.getJdbcServices().getSqlExceptionHelper().convert(e, "could not execute returning statement", sql.toString());
+        } finally {
+            HqlStatements.release(session, statement);
+        }
+    }
+
+}
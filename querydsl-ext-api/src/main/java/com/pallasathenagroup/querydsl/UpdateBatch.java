@@ -0,0 +1,121 @@
+package com.pallasathenagroup.querydsl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Queue many {@link ExtendJpaUpdateClause}s and execute them with JDBC batching on the connection of the
+ * entity manager. Clauses serialized to the same statement are executed as one batch, so the values are
+ * the only thing sent per clause.
+ * <pre>
+ * int[] counts = new UpdateBatch(entityManager)
+ *         .add(new ExtendJpaUpdateClause(entityManager, entity).set(entity.name, "a").where(entity.id.eq(1L)))
+ *         .add(new ExtendJpaUpdateClause(entityManager, entity).set(entity.name, "b").where(entity.id.eq(2L)))
+ *         .execute();
+ * </pre>
+ * Updates translated to more than one statement (multi table entities) can't be batched and are executed
+ * one by one.
+ */
+public class UpdateBatch {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    private final List<ExtendQueryImpl<?>> queries = new ArrayList<>();
+
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    public UpdateBatch(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public UpdateBatch add(ExtendJpaUpdateClause updateClause) {
+        return add(updateClause.prepare());
+    }
+
+    public UpdateBatch add(PreparedUpdate preparedUpdate) {
+        queries.add(preparedUpdate.createQuery(entityManager));
+        return this;
+    }
+
+    /**
+     * Maximum number of statements sent in a single JDBC batch, larger groups are split in several batches
+     * @param maxBatchSize
+     * @return
+     */
+    public UpdateBatch maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    public int size() {
+        return queries.size();
+    }
+
+    public boolean isEmpty() {
+        return queries.isEmpty();
+    }
+
+    /**
+     * @return the update count of each queued clause, in the order they were added
+     */
+    public int[] execute() {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        session.flush();
+
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            groups.computeIfAbsent(queries.get(i).getExpandedQueryString(), hql -> new ArrayList<>()).add(i);
+        }
+
+        int[] result = new int[queries.size()];
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            HqlStatements.SingleStatement singleStatement = HqlStatements.getSingleStatement(session, group.getKey());
+            if (singleStatement == null) {
+                for (int index : group.getValue()) {
+                    result[index] = queries.get(index).executeUpdate();
+                }
+            } else {
+                executeBatch(session, singleStatement, group.getValue(), result);
+            }
+        }
+        queries.clear();
+        return result;
+    }
+
+    private void executeBatch(SessionImplementor session, HqlStatements.SingleStatement singleStatement, List<Integer> indexes, int[] result) {
+        HqlStatements.registerBulkOperationCleanup(session, singleStatement);
+
+        String sql = singleStatement.sql;
+        PreparedStatement statement = null;
+        try {
+            statement = session.getJdbcCoordinator().getStatementPreparer().prepareStatement(sql, false);
+            for (int from = 0; from < indexes.size(); from += maxBatchSize) {
+                List<Integer> batch = indexes.subList(from, Math.min(indexes.size(), from + maxBatchSize));
+                for (int index : batch) {
+                    HqlStatements.bind(statement, singleStatement, queries.get(index).getQueryParameters(), session);
+                    statement.addBatch();
+                }
+                int[] counts = statement.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    result[batch.get(i)] = counts[i];
+                }
+            }
+        } catch (SQLException e) {
+            throw session.getJdbcServices().getSqlExceptionHelper().convert(e, "could not execute update batch", sql);
+        } finally {
+            HqlStatements.release(session, statement);
+        }
+    }
+
+}
@@ -25,13 +25,33 @@ import java.lang.reflect.Array;
 import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nullable;
 import org.hibernate.jpa.TypedParameterValue;
+import org.hibernate.type.Type;
 
 @SuppressWarnings("unchecked")
 public class PostgresqlArrayExpression<A, T> extends TypedParameterValueSimpleExpression<A> implements ArrayExpression<A, T> {
 
+    private static final Map<Class<?>, Type> ARRAY_TYPES = Map.ofEntries(
+            Map.entry(UUID.class, UUIDArrayType.INSTANCE),
+            Map.entry(String.class, StringArrayType.INSTANCE),
+            Map.entry(int.class, IntArrayType.INSTANCE),
+            Map.entry(Integer.class, IntArrayType.INSTANCE),
+            Map.entry(long.class, LongArrayType.INSTANCE),
+            Map.entry(Long.class, LongArrayType.INSTANCE),
+            Map.entry(double.class, DoubleArrayType.INSTANCE),
+            Map.entry(Double.class, DoubleArrayType.INSTANCE),
+            Map.entry(Timestamp.class, TimestampArrayType.INSTANCE),
+            Map.entry(Date.class, DateArrayType.INSTANCE)
+    );
+
+    private static final ConcurrentMap<ArrayTypeKey, Type> ARRAY_TYPE_CACHE = new ConcurrentHashMap<>();
+
     private final String columnDefinition;
 
     public PostgresqlArrayExpression(Expression<A> mixin, String columnDefinition) {
@@ -150,25 +170,60 @@ public class PostgresqlArrayExpression<A, T> extends TypedParameterValueSimpleEx
     }
 
     public static <T> Object getTypedParameterValue(T[] other, String columnDefinition) {
-        Class<?> componentType = other.getClass().getComponentType();
-        if (componentType.equals(UUID.class)) {
-            return new TypedParameterValue(UUIDArrayType.INSTANCE, other);
-        } else if (componentType.equals(String.class)) {
-            return new TypedParameterValue(StringArrayType.INSTANCE, other);
-        } else if (componentType.equals(int.class) || componentType.equals(Integer.class)) {
-            return new TypedParameterValue(IntArrayType.INSTANCE, other);
-        } else if (componentType.equals(long.class) || componentType.equals(Long.class)) {
-            return new TypedParameterValue(LongArrayType.INSTANCE, other);
-        } else if (componentType.equals(double.class) || componentType.equals(Double.class)) {
-            return new TypedParameterValue(DoubleArrayType.INSTANCE, other);
-        } else if (Timestamp.class.isAssignableFrom(componentType)) {
-            return new TypedParameterValue(TimestampArrayType.INSTANCE, other);
-        } else if (Date.class.isAssignableFrom(componentType)) {
-            return new TypedParameterValue(DateArrayType.INSTANCE, other);
-        } else if (Enum.class.isAssignableFrom(componentType)) {
-            return new TypedParameterValue(new EnumArrayType(componentType, columnDefinition), other);
-        } else {
-            throw new IllegalArgumentException("No type for " + componentType);
+        return new TypedParameterValue(getArrayType(other.getClass().getComponentType(), columnDefinition), other);
+    }
+
+    /**
+     * Returns the Hibernate array type for the given component type. Types that do not depend on the
+     * column definition are looked up directly, others (enum arrays) are created once per component type
+     * and column definition.
+     */
+    public static Type getArrayType(Class<?> componentType, String columnDefinition) {
+        Type type = ARRAY_TYPES.get(componentType);
+        if (type != null) {
+            return type;
+        }
+        return ARRAY_TYPE_CACHE.computeIfAbsent(new ArrayTypeKey(componentType, columnDefinition), ArrayTypeKey::resolve);
+    }
+
+    private static final class ArrayTypeKey {
+
+        private final Class<?> componentType;
+        private final String columnDefinition;
+
+        private ArrayTypeKey(Class<?> componentType, String columnDefinition) {
+            this.componentType = componentType;
+            this.columnDefinition = columnDefinition;
+        }
+
+        private Type resolve() {
+            if (Timestamp.class.isAssignableFrom(componentType)) {
+                return TimestampArrayType.INSTANCE;
+            } else if (Date.class.isAssignableFrom(componentType)) {
+                return DateArrayType.INSTANCE;
+            } else if (Enum.class.isAssignableFrom(componentType)) {
+                return new EnumArrayType(componentType, columnDefinition);
+            } else {
+                throw new IllegalArgumentException("No array type for " + componentType.getName()
+                        + ", the supported types are UUID, String, Integer, Long, Double, Timestamp, Date and enums");
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ArrayTypeKey)) {
+                return false;
+            }
+            ArrayTypeKey that = (ArrayTypeKey) o;
+            return componentType.equals(that.componentType) && Objects.equals(columnDefinition, that.columnDefinition);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * componentType.hashCode() + Objects.hashCode(columnDefinition);
         }
     }
 
@@ -28,7 +28,15 @@ public class PostgresqlArrayPath<A, T> extends PostgresqlArrayExpression<A, T> i
     }
 
     public PostgresqlArrayPath(Class type, PathMetadata metadata) {
-        super(ExpressionUtils.path(type, metadata), getColumnDefinitionFromMetadata(metadata));
+        this(type, getColumnDefinitionFromMetadata(metadata), metadata);
+    }
+
+    /**
+     * Constructor used by the generated Q-classes, the array type and the element column definition
+     * are resolved by the annotation processor so that no reflection is needed per path instance.
+     */
+    public PostgresqlArrayPath(Class type, String columnDefinition, PathMetadata metadata) {
+        super(ExpressionUtils.path(type, metadata), columnDefinition);
         this.pathMixin = (PathImpl<A>) mixin;
     }
 
@@ -9,6 +9,8 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.SimpleExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import com.vladmihalcea.hibernate.type.basic.PostgreSQLHStoreType;
+import org.hibernate.jpa.TypedParameterValue;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
@@ -55,6 +57,14 @@ public class HstoreExpression extends SimpleExpression<Map<String, String>> impl
         return get(Expressions.constant(s));
     }
 
+    public HstoreExpression concat(Expression<Map<String, String>> other) {
+        return new HstoreExpression(Expressions.simpleOperation((Class) Map.class, HstoreOps.CONCAT, this.mixin, other));
+    }
+
+    public HstoreExpression concat(Map<String, String> other) {
+        return concat((Expression) Expressions.constant(new TypedParameterValue(PostgreSQLHStoreType.INSTANCE, other)));
+    }
+
     @Override
     public Class<?> getParameter(int i) {
         return String.class;
@@ -0,0 +1,96 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@code jsonb_agg} or {@code jsonb_object_agg} aggregate, created by {@link JsonExpressions#jsonAgg(Expression)}
+ * and {@link JsonExpressions#jsonObjectAgg(Expression, Expression)}
+ * <pre>
+ * JsonExpressions.jsonAgg(child.name).orderBy(child.position.asc()).filter(child.deleted.isFalse())
+ * -- becomes
+ * jsonb_agg(child.name ORDER BY child.position ASC) FILTER (WHERE child.deleted = false)
+ * </pre>
+ * {@link #orderBy(OrderSpecifier[])} and {@link #filter(Predicate)} return a new aggregate. The aggregate of no rows,
+ * or of rows all excluded by the filter, is {@code null}.
+ */
+public class JsonAggregate<T> extends JsonOperation<T> {
+
+    private final Class<T> type;
+
+    private final boolean object;
+
+    private final List<Expression<?>> values;
+
+    private final List<OrderSpecifier<?>> orderBy;
+
+    private final Predicate filter;
+
+    JsonAggregate(Class<T> type, boolean object, List<Expression<?>> values, List<OrderSpecifier<?>> orderBy,
+                  Predicate filter) {
+        super(createOperation(type, object, values, orderBy, filter));
+        this.type = type;
+        this.object = object;
+        this.values = values;
+        this.orderBy = orderBy;
+        this.filter = filter;
+    }
+
+    public JsonAggregate<T> orderBy(OrderSpecifier<?>... orderBy) {
+        List<OrderSpecifier<?>> specifiers = new ArrayList<>(this.orderBy);
+        specifiers.addAll(Arrays.asList(orderBy));
+        return new JsonAggregate<>(type, object, values, Collections.unmodifiableList(specifiers), filter);
+    }
+
+    public JsonAggregate<T> filter(Predicate filter) {
+        return new JsonAggregate<>(type, object, values, orderBy, filter);
+    }
+
+    public List<OrderSpecifier<?>> getOrderBy() {
+        return orderBy;
+    }
+
+    public Predicate getFilter() {
+        return filter;
+    }
+
+    private static <T> Operation<T> createOperation(Class<T> type, boolean object, List<Expression<?>> values,
+                                                    List<OrderSpecifier<?>> orderBy, Predicate filter) {
+        List<Expression<?>> arguments = new ArrayList<>(values);
+        for (OrderSpecifier<?> specifier : orderBy) {
+            arguments.add(Expressions.operation(Object.class, getOrderOperator(specifier), specifier.getTarget()));
+        }
+        if (filter != null) {
+            // last, as in the rendered sql. Hibernate drops the comparisons in the arguments of a function,
+            // the predicate is passed as a value, 1 when it holds
+            arguments.add(Expressions.numberTemplate(Integer.class, "case when {0} then 1 end", filter));
+        }
+
+        JsonOps operator;
+        if (object) {
+            operator = filter != null ? JsonOps.JSON_OBJECT_AGG_FILTER : JsonOps.JSON_OBJECT_AGG;
+        } else {
+            operator = filter != null ? JsonOps.JSON_AGG_FILTER : JsonOps.JSON_AGG;
+        }
+        return Expressions.operation(type, operator, Expressions.list(arguments.toArray(new Expression<?>[0])));
+    }
+
+    private static JsonOps getOrderOperator(OrderSpecifier<?> specifier) {
+        switch (specifier.getNullHandling()) {
+            case NullsFirst:
+                return specifier.isAscending() ? JsonOps.JSON_AGG_ORDER_ASC_NULLS_FIRST : JsonOps.JSON_AGG_ORDER_DESC_NULLS_FIRST;
+            case NullsLast:
+                return specifier.isAscending() ? JsonOps.JSON_AGG_ORDER_ASC_NULLS_LAST : JsonOps.JSON_AGG_ORDER_DESC_NULLS_LAST;
+            default:
+                return specifier.isAscending() ? JsonOps.JSON_AGG_ORDER_ASC : JsonOps.JSON_AGG_ORDER_DESC;
+        }
+    }
+
+}
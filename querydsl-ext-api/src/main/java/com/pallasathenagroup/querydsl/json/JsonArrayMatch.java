@@ -0,0 +1,134 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Operator;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.PathMetadata;
+import com.querydsl.core.types.PathMetadataFactory;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The predicates of {@link JsonExpression#anyMatch(Function)}, the condition is evaluated on a placeholder
+ * of the element and translated to a containment or a jsonpath filter of the array
+ */
+final class JsonArrayMatch {
+
+    private static final PathMetadata ELEMENT = PathMetadataFactory.forVariable("element");
+
+    private JsonArrayMatch() {
+    }
+
+    static BooleanExpression anyMatch(JsonExpression<?> array,
+                                      Function<JsonExpression<JsonNode>, ? extends Predicate> condition) {
+        JsonPath<JsonNode> element = new JsonPath<>(JsonNode.class, ELEMENT);
+        Predicate predicate = Objects.requireNonNull(condition.apply(element), "condition");
+
+        Object document = toDocument(predicate);
+        if (document != null) {
+            return array.contains(JsonMappers.toRawJson(Collections.singletonList(document)));
+        }
+        return array.jsonPathExists("$[*] ? (" + toFilter(predicate) + ")");
+    }
+
+    /**
+     * @return the document contained by the matching elements, or {@code null} if the predicate is not
+     * a conjunction of equalities
+     */
+    private static Object toDocument(Predicate predicate) {
+        List<Predicate> conjunction = new ArrayList<>();
+        JsonContainmentRewriter.flattenAnd(predicate, conjunction);
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        for (Predicate operand : conjunction) {
+            JsonComparison comparison = JsonComparison.of(operand);
+            if (comparison == null || comparison.operator != Ops.EQ || !isElement(comparison)
+                    || comparison.hasIndexKeys()) {
+                return null;
+            }
+            if (comparison.keys.length == 0) {
+                // an element of scalars
+                return conjunction.size() == 1 ? comparison.value : null;
+            }
+            if (!JsonContainmentRewriter.put(document, comparison.keys, comparison.value)) {
+                return null;
+            }
+        }
+        return document;
+    }
+
+    private static String toFilter(Predicate predicate) {
+        if (predicate instanceof Operation) {
+            Operation<?> operation = (Operation<?>) predicate;
+            Operator operator = operation.getOperator();
+            if (operator == Ops.AND) {
+                return "(" + toFilter((Predicate) operation.getArg(0)) + " && " + toFilter((Predicate) operation.getArg(1)) + ")";
+            } else if (operator == Ops.OR) {
+                return "(" + toFilter((Predicate) operation.getArg(0)) + " || " + toFilter((Predicate) operation.getArg(1)) + ")";
+            } else if (operator == Ops.NOT) {
+                return "!(" + toFilter((Predicate) operation.getArg(0)) + ")";
+            }
+
+            JsonComparison comparison = JsonComparison.of(predicate);
+            if (comparison != null && isElement(comparison)) {
+                return accessor(comparison.keys) + " " + toFilter(comparison.operator) + " " + literal(comparison.value);
+            }
+            throw new IllegalArgumentException("Unsupported operation " + operator + " in anyMatch, only the comparisons "
+                    + "of the text, numbers and booleans of the element with constants are supported");
+        }
+        throw new IllegalArgumentException("Unsupported predicate " + predicate.getClass().getName() + " in anyMatch");
+    }
+
+    private static boolean isElement(JsonComparison comparison) {
+        return ELEMENT.equals(comparison.root.getMetadata());
+    }
+
+    private static String accessor(String[] keys) {
+        StringBuilder accessor = new StringBuilder("@");
+        for (String key : keys) {
+            if (key.chars().allMatch(Character::isDigit)) {
+                accessor.append('[').append(key).append(']');
+            } else {
+                accessor.append('.').append(JsonMappers.toJson(key));
+            }
+        }
+        return accessor.toString();
+    }
+
+    private static String toFilter(Operator operator) {
+        if (operator == Ops.EQ) {
+            return "==";
+        } else if (operator == Ops.NE) {
+            return "!=";
+        } else if (operator == Ops.LT) {
+            return "<";
+        } else if (operator == Ops.GT) {
+            return ">";
+        } else if (operator == Ops.LOE) {
+            return "<=";
+        } else {
+            return ">=";
+        }
+    }
+
+    private static String literal(Object value) {
+        if (value instanceof Double && !Double.isFinite((Double) value)
+                || value instanceof Float && !Float.isFinite((Float) value)) {
+            throw new IllegalArgumentException("Json numbers must be finite, got " + value);
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value instanceof String ? JsonMappers.toJson(value) : value.toString();
+    }
+
+}
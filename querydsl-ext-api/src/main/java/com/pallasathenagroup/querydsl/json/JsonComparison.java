@@ -0,0 +1,153 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.pallasathenagroup.querydsl.CommonOps;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Operator;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+import org.hibernate.jpa.TypedParameterValue;
+
+/**
+ * A comparison of the value at constant keys of a json path with a constant, as created by
+ * {@code json.get("key").asText().eq("value")}, {@code json.get("key").asInteger().gt(1)}
+ * or {@code json.get("key").asBoolean()}
+ */
+final class JsonComparison {
+
+    final Operator operator;
+
+    final Path<?> root;
+
+    final String[] keys;
+
+    /**
+     * a {@link String} for text comparisons, a {@link Number} or a {@link Boolean}
+     */
+    final Object value;
+
+    private JsonComparison(Operator operator, Path<?> root, String[] keys, Object value) {
+        this.operator = operator;
+        this.root = root;
+        this.keys = keys;
+        this.value = value;
+    }
+
+    boolean hasIndexKeys() {
+        for (String key : keys) {
+            if (key.chars().allMatch(Character::isDigit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the comparison, or {@code null} if the predicate is not a comparison of a json value with a constant
+     */
+    static JsonComparison of(Predicate predicate) {
+        if (!(predicate instanceof Operation)) {
+            return null;
+        }
+        Operation<?> operation = (Operation<?>) predicate;
+        if (isBooleanCast(operation)) {
+            // asBoolean() used as predicate
+            return of(Ops.EQ, operation.getArg(0), JsonOps.GET, Boolean.TRUE);
+        }
+        Operator operator = operation.getOperator();
+        if (operation.getArgs().size() != 2 || !isComparison(operator)) {
+            return null;
+        }
+
+        Expression<?> left = operation.getArg(0);
+        Expression<?> right = operation.getArg(1);
+        if (left instanceof Constant) {
+            Expression<?> constant = left;
+            left = right;
+            right = constant;
+            operator = flip(operator);
+        }
+        if (!(right instanceof Constant) || !(left instanceof Operation)) {
+            return null;
+        }
+
+        Object value = ((Constant<?>) right).getConstant();
+        Operation<?> json = (Operation<?>) left;
+        if (json.getOperator() == JsonOps.GET_TEXT && value instanceof String) {
+            return of(operator, json, JsonOps.GET_TEXT, value);
+        } else if (json.getOperator() == Ops.NUMCAST && value instanceof Number) {
+            return of(operator, json.getArg(0), JsonOps.GET, value);
+        } else if (isBooleanCast(json) && value instanceof Boolean && (operator == Ops.EQ || operator == Ops.NE)) {
+            return of(operator, json.getArg(0), JsonOps.GET, value);
+        }
+        return null;
+    }
+
+    /**
+     * @param get a {@link JsonOps#GET} or {@link JsonOps#GET_TEXT} of constant keys on a json path, the text of the
+     *            json path itself is a {@link JsonOps#GET_TEXT} of no keys, the json path itself for numbers and booleans
+     * @param getOperator the operator expected for the compared value, a text can't be compared to a number
+     */
+    private static JsonComparison of(Operator operator, Expression<?> get, JsonOps getOperator, Object value) {
+        if (get instanceof Path && getOperator == JsonOps.GET) {
+            return new JsonComparison(operator, (Path<?>) get, new String[0], value);
+        }
+        if (!(get instanceof Operation)) {
+            return null;
+        }
+        Operation<?> operation = (Operation<?>) get;
+        if (operation.getOperator() != getOperator
+                || !(operation.getArg(0) instanceof Path) || !(operation.getArg(1) instanceof Constant)) {
+            return null;
+        }
+
+        Object keys = ((Constant<?>) operation.getArg(1)).getConstant();
+        if (keys instanceof TypedParameterValue) {
+            keys = ((TypedParameterValue) keys).getValue();
+        }
+        String[] path;
+        if (keys instanceof String[]) {
+            path = (String[]) keys;
+        } else if (keys instanceof String) {
+            path = new String[] { (String) keys };
+        } else {
+            return null;
+        }
+        if (path.length == 0 && getOperator != JsonOps.GET_TEXT) {
+            return null;
+        }
+        for (String key : path) {
+            if (key == null || key.isEmpty()) {
+                return null;
+            }
+        }
+        return new JsonComparison(operator, (Path<?>) operation.getArg(0), path, value);
+    }
+
+    private static boolean isBooleanCast(Operation<?> operation) {
+        return operation.getOperator() == CommonOps.CAST
+                && operation.getArg(1) instanceof Constant
+                && "boolean".equals(((Constant<?>) operation.getArg(1)).getConstant());
+    }
+
+    private static boolean isComparison(Operator operator) {
+        return operator == Ops.EQ || operator == Ops.NE
+                || operator == Ops.LT || operator == Ops.GT || operator == Ops.LOE || operator == Ops.GOE;
+    }
+
+    private static Operator flip(Operator operator) {
+        if (operator == Ops.LT) {
+            return Ops.GT;
+        } else if (operator == Ops.GT) {
+            return Ops.LT;
+        } else if (operator == Ops.LOE) {
+            return Ops.GOE;
+        } else if (operator == Ops.GOE) {
+            return Ops.LOE;
+        }
+        return operator;
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.PathMetadata;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrite the equalities on constant keys of a json column, in a conjunction, into one containment
+ * predicate that a GIN index on the column can answer
+ * <pre>
+ * json.get("status").asText().eq("active") and json.get("tier").asInteger().eq(3)
+ * -- becomes
+ * json @&gt; '{"status": "active", "tier": 3}'
+ * </pre>
+ * The rewrite is opt-in, apply it to the predicates before passing them to the query:
+ * {@code query.where(JsonContainmentRewriter.rewrite(predicate))}. Conjunctions nested in {@code or} and
+ * {@code not} are rewritten too.
+ * <p>
+ * Containment compares json values, and not their text, so the rewrite keeps the semantics as long as the values
+ * have the json type of the comparison:
+ * <ul>
+ *     <li>{@code asText().eq(String)} matches json strings only, a number {@code 3} is not contained by
+ *     {@code "3"} while its text equals {@code '3'}</li>
+ *     <li>{@code asNumber(..).eq(Number)} matches json numbers, compared by value ({@code 3} and {@code 3.0} are
+ *     equal). The cast of a string to a number fails, where the containment doesn't match. The cast to an integer
+ *     type rounds the json number, {@code asInteger().eq(4)} matches {@code 3.5} while {@code @> '{"k": 4}'} only
+ *     matches {@code 4} and {@code 4.0}, so the rewrite of an integer cast is only equivalent for json integers.
+ *     {@code asNumber(BigDecimal.class)} compares the exact value.</li>
+ *     <li>{@code asBoolean().eq(Boolean)} and {@code asBoolean()} match json booleans</li>
+ * </ul>
+ * Null values, keys of array indexes (only digits), and keys conflicting with another comparison
+ * of the conjunction (the same key, or a key of a nested value of a compared key) are not rewritten.
+ */
+public final class JsonContainmentRewriter {
+
+    private JsonContainmentRewriter() {
+    }
+
+    public static Predicate rewrite(Predicate predicate) {
+        if (predicate == null) {
+            return null;
+        }
+
+        List<Predicate> conjunction = new ArrayList<>();
+        flattenAnd(predicate, conjunction);
+
+        Map<PathMetadata, Containment> containments = new LinkedHashMap<>();
+        List<Object> result = new ArrayList<>();
+        for (Predicate operand : conjunction) {
+            JsonComparison comparison = match(operand);
+            if (comparison != null) {
+                Containment containment = containments.get(comparison.root.getMetadata());
+                if (containment == null) {
+                    containment = new Containment(comparison.root);
+                    containments.put(comparison.root.getMetadata(), containment);
+                    if (containment.add(comparison)) {
+                        result.add(containment);
+                        continue;
+                    }
+                } else if (containment.add(comparison)) {
+                    continue;
+                }
+            }
+            result.add(rewriteNested(operand));
+        }
+
+        Predicate rewritten = null;
+        for (Object operand : result) {
+            Predicate next = operand instanceof Containment ? ((Containment) operand).toPredicate() : (Predicate) operand;
+            rewritten = rewritten == null ? next : ExpressionUtils.and(rewritten, next);
+        }
+        return rewritten;
+    }
+
+    static void flattenAnd(Predicate predicate, List<Predicate> conjunction) {
+        if (predicate instanceof Operation && ((Operation<?>) predicate).getOperator() == Ops.AND) {
+            for (Expression<?> arg : ((Operation<?>) predicate).getArgs()) {
+                flattenAnd((Predicate) arg, conjunction);
+            }
+        } else {
+            conjunction.add(predicate);
+        }
+    }
+
+    private static Predicate rewriteNested(Predicate predicate) {
+        if (predicate instanceof Operation) {
+            Operation<?> operation = (Operation<?>) predicate;
+            if (operation.getOperator() == Ops.OR) {
+                return ExpressionUtils.or(rewrite((Predicate) operation.getArg(0)), rewrite((Predicate) operation.getArg(1)));
+            } else if (operation.getOperator() == Ops.NOT) {
+                return ExpressionUtils.predicate(Ops.NOT, rewrite((Predicate) operation.getArg(0)));
+            }
+        }
+        return predicate;
+    }
+
+    private static JsonComparison match(Predicate predicate) {
+        JsonComparison comparison = JsonComparison.of(predicate);
+        if (comparison == null || comparison.operator != Ops.EQ || comparison.keys.length == 0
+                || comparison.hasIndexKeys()) {
+            // digits are array indexes in a path, and object keys in a document
+            return null;
+        }
+        return comparison;
+    }
+
+    /**
+     * Put the value at the keys of a containment document
+     * @return {@code false} if the keys conflict with the document, a key already set or a nested value of a set key
+     */
+    @SuppressWarnings("unchecked")
+    static boolean put(Map<String, Object> document, String[] keys, Object value) {
+        Map<String, Object> object = document;
+        for (int i = 0; i < keys.length - 1; i++) {
+            Object nested = object.get(keys[i]);
+            if (nested == null) {
+                nested = new LinkedHashMap<String, Object>();
+                object.put(keys[i], nested);
+            } else if (!(nested instanceof Map)) {
+                return false;
+            }
+            object = (Map<String, Object>) nested;
+        }
+        String key = keys[keys.length - 1];
+        if (object.containsKey(key)) {
+            return false;
+        }
+        object.put(key, value);
+        return true;
+    }
+
+    private static final class Containment {
+
+        private final Path<?> root;
+
+        private final Map<String, Object> document = new LinkedHashMap<>();
+
+        Containment(Path<?> root) {
+            this.root = root;
+        }
+
+        boolean add(JsonComparison comparison) {
+            return put(document, comparison.keys, comparison.value);
+        }
+
+        Predicate toPredicate() {
+            return Expressions.booleanOperation(JsonOps.CONTAINS, root,
+                    JsonExpressions.rawJsonConstant(JsonMappers.toRawJson(document)));
+        }
+
+    }
+
+}
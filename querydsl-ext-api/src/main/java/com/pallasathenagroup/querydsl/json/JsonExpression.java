@@ -1,5 +1,6 @@
 package com.pallasathenagroup.querydsl.json;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.NullNode;
@@ -7,14 +8,15 @@ import com.pallasathenagroup.querydsl.CommonOps;
 import com.querydsl.core.types.ConstantImpl;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Visitor;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.SimpleExpression;
 import com.querydsl.core.types.dsl.StringExpression;
-import com.vladmihalcea.hibernate.type.util.Configuration;
 import java.util.List;
+import java.util.function.Function;
 
 public class JsonExpression<T> extends SimpleExpression<T> {
 
@@ -37,6 +39,35 @@ public class JsonExpression<T> extends SimpleExpression<T> {
         return containsKey(Expressions.constant(key));
     }
 
+    /**
+     * Checks whether the key exists as a top level key of the object, or as a string element of the array, rendered
+     * as the {@code ?} operator that a GIN index on the column can answer. Unlike {@link #containsKey(String)},
+     * rendered as {@code -> IS NOT NULL}, it matches the string elements of an array, and only applies to {@code jsonb}.
+     */
+    public BooleanExpression hasKey(Expression<String> key) {
+        return Expressions.booleanOperation(JsonOps.HAS_KEY, mixin, key);
+    }
+
+    public BooleanExpression hasKey(String key) {
+        return hasKey(Expressions.constant(key));
+    }
+
+    public BooleanExpression containsAnyKey(Expression<?> keys) {
+        return Expressions.booleanOperation(JsonOps.CONTAINS_ANY_KEY, mixin, keys);
+    }
+
+    public BooleanExpression containsAnyKey(String... keys) {
+        return containsAnyKey(JsonExpressions.arrayConstant(keys));
+    }
+
+    public BooleanExpression containsAllKeys(Expression<?> keys) {
+        return Expressions.booleanOperation(JsonOps.CONTAINS_ALL_KEYS, mixin, keys);
+    }
+
+    public BooleanExpression containsAllKeys(String... keys) {
+        return containsAllKeys(JsonExpressions.arrayConstant(keys));
+    }
+
     public BooleanExpression contains(JsonExpression<?> object) {
         return Expressions.booleanOperation(JsonOps.CONTAINS, mixin, object);
     }
@@ -45,6 +76,80 @@ public class JsonExpression<T> extends SimpleExpression<T> {
         return contains(JsonExpressions.jsonbConstant(object));
     }
 
+    /**
+     * Checks whether the SQL/JSON path returns any item, rendered as {@code @?}.
+     * A GIN index on the column (preferably with {@code jsonb_path_ops}) can answer this predicate.
+     *
+     * @param path jsonpath expression, for example {@code $[*] ? (@.embed1_int > 1)}
+     */
+    public BooleanExpression jsonPathExists(String path) {
+        return Expressions.booleanOperation(JsonOps.JSON_PATH_EXISTS, mixin, Expressions.constant(path));
+    }
+
+    /**
+     * Checks whether the SQL/JSON path returns any item, rendered as {@code jsonb_path_exists}.
+     *
+     * @param path jsonpath expression referring to variables as {@code $name}
+     * @param vars object holding the variables, bound as a single jsonb parameter
+     */
+    public BooleanExpression jsonPathExists(String path, Object vars) {
+        return Expressions.booleanOperation(JsonOps.JSON_PATH_EXISTS_VARS, mixin, Expressions.constant(path),
+                JsonExpressions.jsonbConstant(vars));
+    }
+
+    /**
+     * Returns the result of a jsonpath predicate check, rendered as {@code @@}.
+     *
+     * @param path jsonpath predicate, for example {@code $.embed1_int > 1}
+     */
+    public BooleanExpression jsonPathMatch(String path) {
+        return Expressions.booleanOperation(JsonOps.JSON_PATH_MATCH, mixin, Expressions.constant(path));
+    }
+
+    /**
+     * Returns the result of a jsonpath predicate check, rendered as {@code jsonb_path_match}.
+     *
+     * @param path jsonpath predicate referring to variables as {@code $name}
+     * @param vars object holding the variables, bound as a single jsonb parameter
+     */
+    public BooleanExpression jsonPathMatch(String path, Object vars) {
+        return Expressions.booleanOperation(JsonOps.JSON_PATH_MATCH_VARS, mixin, Expressions.constant(path),
+                JsonExpressions.jsonbConstant(vars));
+    }
+
+    /**
+     * Returns the first item returned by the jsonpath, rendered as {@code jsonb_path_query_first}.
+     */
+    public JsonOperation<JsonNode> jsonPathQuery(String path) {
+        return new JsonOperation<>(Expressions.operation(JsonNode.class, JsonOps.JSON_PATH_QUERY_FIRST, mixin,
+                Expressions.constant(path)));
+    }
+
+    public JsonOperation<JsonNode> jsonPathQuery(String path, Object vars) {
+        return new JsonOperation<>(Expressions.operation(JsonNode.class, JsonOps.JSON_PATH_QUERY_FIRST_VARS, mixin,
+                Expressions.constant(path), JsonExpressions.jsonbConstant(vars)));
+    }
+
+    /**
+     * Checks whether any element of the json array matches the condition, the condition is created on the element
+     * <pre>
+     * jsonNodeEntity.embed1List.anyMatch(element -&gt; element.get("embed1_int").asInteger().eq(1))
+     * </pre>
+     * A conjunction of equalities is rendered as the containment of an array of one element, {@code @> '[{"embed1_int": 1}]'},
+     * other comparisons, disjunctions and negations as a jsonpath filter, {@code @? '$[*] ? (@."embed1_int" > 1)'}.
+     * A GIN index on the column can answer both.
+     * <p>
+     * Only comparisons of the text, numbers and booleans of the element with constants are supported. They match
+     * json values of the same type, {@code asText().eq("1")} doesn't match the number {@code 1}. Numbers are compared
+     * by exact value, {@code asInteger().eq(4)} doesn't match {@code 3.5} as the integer cast would. The elements of an
+     * array of scalars are compared directly, {@code element -> element.asText().eq("a")}.
+     *
+     * @throws IllegalArgumentException if the condition can't be translated
+     */
+    public BooleanExpression anyMatch(Function<JsonExpression<JsonNode>, ? extends Predicate> condition) {
+        return JsonArrayMatch.anyMatch(this, condition);
+    }
+
     public JsonOperation<JsonNode> get(Expression<?> key) {
         return new JsonOperation<>(Expressions.operation(JsonNode.class, JsonOps.GET, mixin, key)) {
             @Override
@@ -71,8 +176,11 @@ public class JsonExpression<T> extends SimpleExpression<T> {
         return get(JsonExpressions.arrayConstant(keys));
     }
 
+    /**
+     * @return the text of this json value, {@code #>> '{}'}, the string of a json string, the json text of other values
+     */
     public StringExpression asText() {
-        throw new UnsupportedOperationException();
+        return Expressions.stringOperation(JsonOps.GET_TEXT, mixin, JsonExpressions.arrayConstant());
     }
 
     public <A extends Number & Comparable<? super A>> NumberExpression<A> asNumber(Class<A> type) {
@@ -174,14 +282,34 @@ public class JsonExpression<T> extends SimpleExpression<T> {
 
     public JsonOperation<JsonNode> set(String path, Object value) {
         String[] keys = this.validatePaths(path);
-        var afValue = Configuration.INSTANCE.getObjectMapperWrapper().getObjectMapper().valueToTree(value);
-        return set(JsonExpressions.arrayConstant(keys), JsonExpressions.jsonbConstant(afValue));
+        return set(JsonExpressions.arrayConstant(keys), JsonExpressions.rawJsonConstant(JsonMappers.toRawJson(value)));
     }
 
     public JsonOperation<JsonNode> set(Expression<?> path, Expression<?> value) {
         return new JsonOperation<>(Expressions.operation(JsonNode.class, JsonOps.SET, mixin, path, value));
     }
 
+    /**
+     * Select the json as {@link RawJson}, the text returned by the database is not parsed
+     * @return
+     */
+    public JsonOperation<RawJson> asRawJson() {
+        return new JsonOperation<>(Expressions.operation(RawJson.class, JsonOps.RAW_JSON, mixin));
+    }
+
+    /**
+     * Decode the json to a class, without a {@link JsonNode} tree
+     * @param type
+     * @return
+     */
+    public <A> JsonProjection<A> as(Class<A> type) {
+        return new JsonProjection<>(type, mixin);
+    }
+
+    public <A> JsonProjection<A> as(TypeReference<A> type) {
+        return new JsonProjection<>(type, mixin);
+    }
+
     public JsonOperation<JsonNode> coalesce(Expression<?> expr) {
         return new JsonOperation<>(Expressions.operation(JsonNode.class, Ops.COALESCE, Expressions.list(mixin, expr)));
     }
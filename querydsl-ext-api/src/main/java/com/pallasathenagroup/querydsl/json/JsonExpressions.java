@@ -1,5 +1,6 @@
 package com.pallasathenagroup.querydsl.json;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.querydsl.core.types.Constant;
@@ -15,6 +16,8 @@ import com.querydsl.core.types.Visitor;
 import com.querydsl.core.types.dsl.Expressions;
 import com.vladmihalcea.hibernate.type.array.StringArrayType;
 import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import org.hibernate.jpa.TypedParameterValue;
 import org.jetbrains.annotations.Nullable;
@@ -61,7 +64,33 @@ public class JsonExpressions {
         return new JsonOperation<>(Expressions.operation(ArrayNode.class, JsonOps.JSON_BUILD_ARRAY, Expressions.list(expressions)));
     }
 
+    /**
+     * Aggregate the values to a json array, {@code jsonb_agg}. Combined with {@link #buildJsonObject(Expression[])}
+     * in a correlated subquery, the children of a parent are fetched as a single json value per parent.
+     */
+    public static JsonAggregate<ArrayNode> jsonAgg(Expression<?> value) {
+        return new JsonAggregate<>(ArrayNode.class, false, Collections.singletonList(value), Collections.emptyList(), null);
+    }
+
+    /**
+     * Aggregate the keys and values to a json object, {@code jsonb_object_agg}
+     */
+    public static JsonAggregate<ObjectNode> jsonObjectAgg(Expression<String> key, Expression<?> value) {
+        return new JsonAggregate<>(ObjectNode.class, true, Arrays.asList(key, value), Collections.emptyList(), null);
+    }
+
+    public static <T> JsonProjection<T> project(Class<T> type, Expression<?> json) {
+        return new JsonProjection<>(type, json);
+    }
+
+    public static <T> JsonProjection<T> project(TypeReference<T> type, Expression<?> json) {
+        return new JsonProjection<>(type, json);
+    }
+
     public static JsonExpression<?> jsonbConstant(Object object) {
+        if (object instanceof RawJson) {
+            return rawJsonConstant((RawJson) object);
+        }
         return new JsonExpression<>(
                 Expressions.constant(
                         new TypedParameterValue(
@@ -72,6 +101,15 @@ public class JsonExpressions {
         );
     }
 
+    /**
+     * Bind a json text as is, without parsing it
+     * @param json
+     * @return
+     */
+    public static JsonExpression<?> rawJsonConstant(RawJson json) {
+        return new JsonExpression<>(Expressions.constant(new TypedParameterValue(RawJsonType.INSTANCE, json)));
+    }
+
     public static Expression<TypedParameterValue> arrayConstant(String... keys) {
         return Expressions.constant(
                 new TypedParameterValue(
@@ -0,0 +1,168 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.vladmihalcea.hibernate.type.util.Configuration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Readers and writers of the object mapper of the hibernate types {@link Configuration}, cached by type,
+ * and a bounded cache of serialized json constants.
+ * <p>
+ * Constants are cached by identity with {@link #cached(Object)}, use it only for values that are never
+ * mutated, such as default documents held in static fields. The serialized {@link RawJson} is bound as is
+ * by {@link JsonExpressions#jsonbConstant(Object)}, {@link JsonExpression#set(String, Object)} and the json
+ * updates of {@link com.pallasathenagroup.querydsl.ExtendJpaUpdateClause}.
+ */
+public final class JsonMappers {
+
+    public static final int DEFAULT_CONSTANT_CACHE_SIZE = 256;
+
+    private static volatile Registry registry;
+
+    private static volatile Map<IdentityKey, RawJson> constants = createConstantCache(DEFAULT_CONSTANT_CACHE_SIZE);
+
+    private JsonMappers() {
+    }
+
+    public static ObjectMapper getObjectMapper() {
+        return Configuration.INSTANCE.getObjectMapperWrapper().getObjectMapper();
+    }
+
+    public static ObjectReader reader(Class<?> type) {
+        return reader(getObjectMapper().constructType(type));
+    }
+
+    public static ObjectReader reader(TypeReference<?> type) {
+        return reader(getObjectMapper().constructType(type));
+    }
+
+    public static ObjectReader reader(JavaType type) {
+        Registry current = registry();
+        return current.readers.computeIfAbsent(type, current.objectMapper::readerFor);
+    }
+
+    public static ObjectWriter writer(Class<?> type) {
+        Registry current = registry();
+        return current.writers.computeIfAbsent(type, current.objectMapper::writerFor);
+    }
+
+    /**
+     * Serialize a value with the writer cached for its class
+     * @param value
+     * @return
+     */
+    public static String toJson(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof RawJson) {
+            return value.toString();
+        }
+        try {
+            return writer(value.getClass()).writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not write " + value.getClass() + " as json", e);
+        }
+    }
+
+    public static RawJson toRawJson(Object value) {
+        return value instanceof RawJson ? (RawJson) value : RawJson.of(toJson(value));
+    }
+
+    /**
+     * Serialize an immutable value once, the json is cached by the identity of the value
+     * @param value a value that is never mutated
+     * @return
+     */
+    public static RawJson cached(Object value) {
+        if (value instanceof RawJson) {
+            return (RawJson) value;
+        }
+        IdentityKey key = new IdentityKey(value);
+        Map<IdentityKey, RawJson> cache = constants;
+        synchronized (cache) {
+            RawJson json = cache.get(key);
+            if (json != null) {
+                return json;
+            }
+        }
+        RawJson json = toRawJson(value);
+        synchronized (cache) {
+            cache.put(key, json);
+        }
+        return json;
+    }
+
+    /**
+     * Replace the constant cache with an empty one of the given size, 0 disables the cache
+     * @param maxSize
+     */
+    public static void setConstantCacheSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        constants = createConstantCache(maxSize);
+    }
+
+    private static Registry registry() {
+        ObjectMapper objectMapper = getObjectMapper();
+        Registry current = registry;
+        if (current == null || current.objectMapper != objectMapper) {
+            // the object mapper of the configuration has been replaced
+            current = new Registry(objectMapper);
+            registry = current;
+        }
+        return current;
+    }
+
+    private static Map<IdentityKey, RawJson> createConstantCache(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdentityKey, RawJson> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private static final class Registry {
+
+        private final ObjectMapper objectMapper;
+
+        private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+        private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        Registry(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+    }
+
+    private static final class IdentityKey {
+
+        private final Object value;
+
+        IdentityKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+
+    }
+
+}
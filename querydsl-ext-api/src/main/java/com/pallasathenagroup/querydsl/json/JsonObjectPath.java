@@ -0,0 +1,68 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import java.util.Arrays;
+
+/**
+ * Base class of the typed json paths generated by the annotation processor for the classes stored in a json
+ * column, {@code QJsonNodeEntity_Embed1Json} for {@code JsonNodeEntity.Embed1}
+ * <pre>
+ * jsonNodeEntity.embed1Json.embed1_attr2.embed2_attr1.eq("value")
+ * jsonNodeEntity.embed1Json.embed1_int.gt(1)
+ * </pre>
+ * The keys of the properties and their expressions are created once with the path, instead of splitting
+ * and validating a dotted path in each {@link JsonExpression#get(String...)}.
+ */
+public class JsonObjectPath<T> extends JsonExpression<T> {
+
+    private final JsonExpression<?> root;
+
+    private final String[] keys;
+
+    @SuppressWarnings("unchecked")
+    protected JsonObjectPath(Class<? extends T> type, JsonExpression<?> root, String[] keys) {
+        super(keys.length == 0 ? (Expression<T>) root
+                : Expressions.operation(type, JsonOps.GET, root, JsonExpressions.arrayConstant(keys)));
+        this.root = root;
+        this.keys = keys;
+    }
+
+    /**
+     * @return the keys from the json column to this object
+     */
+    public String[] getKeys() {
+        return keys.clone();
+    }
+
+    public JsonExpression<?> getRoot() {
+        return root;
+    }
+
+    protected String[] keys(String key) {
+        String[] propertyKeys = Arrays.copyOf(keys, keys.length + 1);
+        propertyKeys[keys.length] = key;
+        return propertyKeys;
+    }
+
+    protected JsonOperation<JsonNode> createJson(String key) {
+        return root.get(JsonExpressions.arrayConstant(keys(key)));
+    }
+
+    protected StringExpression createString(String key) {
+        return createJson(key).asText();
+    }
+
+    protected <A extends Number & Comparable<? super A>> NumberExpression<A> createNumber(String key, Class<A> type) {
+        return createJson(key).asNumber(type);
+    }
+
+    protected BooleanExpression createBoolean(String key) {
+        return createJson(key).asBoolean();
+    }
+
+}
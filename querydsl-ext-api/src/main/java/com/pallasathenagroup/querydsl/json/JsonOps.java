@@ -9,6 +9,9 @@ public enum JsonOps implements Operator {
     GET(Object.class),
     GET_TEXT(String.class),
     CONTAINS_KEY(Boolean.class),
+    HAS_KEY(Boolean.class),
+    CONTAINS_ANY_KEY(Boolean.class),
+    CONTAINS_ALL_KEYS(Boolean.class),
     MAP_SIZE(Object.class),
     KEYS(String.class),
     ELEMENTS(Object.class),
@@ -23,7 +26,24 @@ public enum JsonOps implements Operator {
     JSON_BUILD_ARRAY(Object.class),
     JSON_BUILD_OBJECT(Object.class),
     LENGTH(Object.class),
-    SET(Object.class);
+    JSON_PATH_EXISTS(Boolean.class),
+    JSON_PATH_EXISTS_VARS(Boolean.class),
+    JSON_PATH_MATCH(Boolean.class),
+    JSON_PATH_MATCH_VARS(Boolean.class),
+    JSON_PATH_QUERY_FIRST(Object.class),
+    JSON_PATH_QUERY_FIRST_VARS(Object.class),
+    SET(Object.class),
+    RAW_JSON(Object.class),
+    JSON_AGG(Object.class),
+    JSON_AGG_FILTER(Object.class),
+    JSON_OBJECT_AGG(Object.class),
+    JSON_OBJECT_AGG_FILTER(Object.class),
+    JSON_AGG_ORDER_ASC(Object.class),
+    JSON_AGG_ORDER_ASC_NULLS_FIRST(Object.class),
+    JSON_AGG_ORDER_ASC_NULLS_LAST(Object.class),
+    JSON_AGG_ORDER_DESC(Object.class),
+    JSON_AGG_ORDER_DESC_NULLS_FIRST(Object.class),
+    JSON_AGG_ORDER_DESC_NULLS_LAST(Object.class);
 
     private final Class<?> type;
 
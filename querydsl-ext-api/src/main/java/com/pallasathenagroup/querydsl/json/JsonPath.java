@@ -13,7 +13,16 @@ public class JsonPath<T> extends JsonExpression<T> implements Path<T> {
     }
 
     public JsonPath(PathMetadata pathMetadata) {
-        this(ExpressionUtils.path(getTypeFromMetadata(pathMetadata), pathMetadata));
+        this(getTypeFromMetadata(pathMetadata), pathMetadata);
+    }
+
+    /**
+     * Constructor used by the generated Q-classes, the type is resolved by the annotation processor
+     * so that no reflection is needed per path instance.
+     */
+    @SuppressWarnings("unchecked")
+    public JsonPath(Class type, PathMetadata pathMetadata) {
+        this(ExpressionUtils.path((Class<T>) type, pathMetadata));
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,101 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.Visitor;
+import com.querydsl.core.types.dsl.Expressions;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Projection of a json expression decoded to a class by Jackson. The json is selected as {@link RawJson},
+ * so the text returned by the database is read straight to the target class without a {@link com.fasterxml.jackson.databind.JsonNode} tree.
+ * <pre>
+ * List&lt;Embed1&gt; embeds = new JPAQuery&lt;&gt;(entityManager)
+ *         .from(jsonNodeEntity)
+ *         .select(jsonNodeEntity.jsonNode.get("embed1").as(Embed1.class))
+ *         .fetch();
+ * </pre>
+ * The readers are cached by type in {@link JsonMappers}.
+ */
+public class JsonProjection<T> implements FactoryExpression<T> {
+
+    private final Class<? extends T> type;
+
+    private final JavaType javaType;
+
+    private final Expression<RawJson> json;
+
+    public JsonProjection(Class<? extends T> type, Expression<?> json) {
+        this(type, JsonMappers.getObjectMapper().constructType(type), json);
+    }
+
+    public JsonProjection(TypeReference<T> type, Expression<?> json) {
+        this(JsonMappers.getObjectMapper().constructType(type), json);
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonProjection(JavaType javaType, Expression<?> json) {
+        this((Class<? extends T>) javaType.getRawClass(), javaType, json);
+    }
+
+    private JsonProjection(Class<? extends T> type, JavaType javaType, Expression<?> json) {
+        this.type = type;
+        this.javaType = javaType;
+        this.json = Expressions.operation(RawJson.class, JsonOps.RAW_JSON, json);
+    }
+
+    @Override
+    public List<Expression<?>> getArgs() {
+        return Collections.singletonList(json);
+    }
+
+    @Override
+    public T newInstance(Object... args) {
+        if (args[0] == null) {
+            return null;
+        }
+        try {
+            return JsonMappers.reader(javaType).readValue(args[0].toString());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read json as " + javaType, e);
+        }
+    }
+
+    @Override
+    public <R, C> R accept(Visitor<R, C> v, C context) {
+        return v.visit(this, context);
+    }
+
+    @Override
+    public Class<? extends T> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JsonProjection)) {
+            return false;
+        }
+        JsonProjection<?> that = (JsonProjection<?>) o;
+        return javaType.equals(that.javaType) && json.equals(that.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(javaType, json);
+    }
+
+    @Override
+    public String toString() {
+        return "json(" + json + " as " + javaType + ")";
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A json document kept as the text returned by the database, without parsing it into a tree.
+ * Use it to forward a jsonb column or a json built by the database to a client as is, with
+ * {@link JsonExpression#asRawJson()} or by mapping a column with {@link RawJsonType}.
+ * <p>
+ * Jackson writes the text as a raw value, so a {@code RawJson} can be a property of a serialized response.
+ */
+public final class RawJson implements JsonSerializable, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String json;
+
+    private RawJson(String json) {
+        this.json = json;
+    }
+
+    /**
+     * @param json a valid json text, it is not validated
+     * @return
+     */
+    public static RawJson of(String json) {
+        return new RawJson(Objects.requireNonNull(json, "json"));
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(json);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof RawJson && json.equals(((RawJson) o).json);
+    }
+
+    @Override
+    public int hashCode() {
+        return json.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+
+}
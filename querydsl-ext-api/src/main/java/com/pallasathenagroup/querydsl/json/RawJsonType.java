@@ -0,0 +1,53 @@
+package com.pallasathenagroup.querydsl.json;
+
+import com.vladmihalcea.hibernate.type.ImmutableType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Hibernate type reading a json or jsonb value as {@link RawJson}, the text sent by the server is kept as is
+ * instead of being parsed by Jackson. Values are bound as text of an unspecified type, the server casts them
+ * to the json type of the column.
+ */
+public class RawJsonType extends ImmutableType<RawJson> {
+
+    public static final RawJsonType INSTANCE = new RawJsonType();
+
+    public RawJsonType() {
+        super(RawJson.class);
+    }
+
+    @Override
+    protected RawJson get(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        String json = rs.getString(names[0]);
+        return json == null ? null : RawJson.of(json);
+    }
+
+    @Override
+    protected void set(PreparedStatement st, RawJson value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, value.toString(), Types.OTHER);
+        }
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[] { Types.OTHER };
+    }
+
+    @Override
+    public String getName() {
+        return "raw-json";
+    }
+
+    @Override
+    public String[] getRegistrationKeys() {
+        return new String[] { getName(), RawJson.class.getName() };
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.pallasathenagroup.querydsl;
+
+import com.pallasathenagroup.querydsl.array.PostgresqlArrayPath;
+import com.pallasathenagroup.querydsl.json.JsonPath;
+import com.querydsl.codegen.EntityType;
+import com.querydsl.codegen.Property;
+import com.querydsl.codegen.TypeMappings;
+import com.querydsl.codegen.utils.CodeWriter;
+import com.querydsl.codegen.utils.model.SimpleType;
+import com.querydsl.codegen.utils.model.Type;
+
+import javax.persistence.Column;
+import java.io.IOException;
+
+/**
+ * Serializes {@link PostgresqlArrayPath} and {@link JsonPath} fields with their type and column definition
+ * as constructor arguments, so that the paths don't have to look them up by reflection each time a
+ * Q-class (or an alias of it) is instantiated.
+ * <p>
+ * Json fields of an object type also get a typed json path, {@code embed1Json} of type
+ * {@code QJsonNodeEntity_Embed1Json}, generated by {@link JsonPathClassSerializer}.
+ */
+final class CustomPathSerializer {
+
+    private CustomPathSerializer() {
+    }
+
+    /**
+     * @return {@code true} if the field was serialized, {@code false} if the default serialization should be used
+     */
+    static boolean customField(TypeMappings typeMappings, JsonPathClassSerializer jsonPathClassSerializer,
+                               EntityType model, Property field, CodeWriter writer) throws IOException {
+        if (field.isInherited()) {
+            return false;
+        }
+
+        Type queryType = typeMappings.getPathType(field.getType(), model, field, false);
+        String arguments;
+        if (queryType.getFullName().equals(PostgresqlArrayPath.class.getName())) {
+            arguments = writer.getRawName(field.getType()) + ".class, " + getElementColumnDefinition(field) + ", ";
+        } else if (queryType.getFullName().equals(JsonPath.class.getName())) {
+            arguments = writer.getRawName(field.getType()) + ".class, ";
+        } else {
+            return false;
+        }
+
+        writer.line("// custom");
+        writer.publicFinal(queryType, field.getEscapedName(),
+                "new " + writer.getRawName(queryType) + "(" + arguments + "forProperty(\"" + field.getName() + "\"))");
+
+        String jsonFieldName = field.getEscapedName() + "Json";
+        if (queryType.getFullName().equals(JsonPath.class.getName())
+                && JsonPathClassSerializer.isJsonObject(field.getType())
+                && !model.getPropertyNames().contains(jsonFieldName)) {
+            Type jsonType = new SimpleType(jsonPathClassSerializer.request(field.getType()));
+            writer.publicFinal(jsonType, jsonFieldName, "new " + writer.getRawName(jsonType) + "(" + field.getEscapedName() + ")");
+        }
+        return true;
+    }
+
+    private static String getElementColumnDefinition(Property field) {
+        Column column = field.getAnnotation(Column.class);
+        if (column == null || column.columnDefinition().indexOf('[') < 0) {
+            return "null";
+        }
+        String columnDefinition = column.columnDefinition();
+        return "\"" + columnDefinition.substring(0, columnDefinition.indexOf('[')) + "\"";
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.codegen.CodegenModule;
+import com.querydsl.codegen.DefaultEntitySerializer;
+import com.querydsl.codegen.EntityType;
+import com.querydsl.codegen.Property;
+import com.querydsl.codegen.SerializerConfig;
+import com.querydsl.codegen.TypeMappings;
+import com.querydsl.codegen.utils.CodeWriter;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+
+public class ExtendedEntitySerializer extends DefaultEntitySerializer {
+
+    private final JsonPathClassSerializer jsonPathClassSerializer;
+
+    @Inject
+    public ExtendedEntitySerializer(TypeMappings mappings,
+                                    @Named(CodegenModule.KEYWORDS) Collection<String> keywords,
+                                    @Named(CodegenModule.GENERATED_ANNOTATION_CLASS) Class<? extends Annotation> generatedAnnotationClass,
+                                    JsonPathClassSerializer jsonPathClassSerializer) {
+        super(mappings, keywords, generatedAnnotationClass);
+        this.jsonPathClassSerializer = jsonPathClassSerializer;
+    }
+
+    @Override
+    protected void customField(EntityType model, Property field, SerializerConfig config, CodeWriter writer) throws IOException {
+        if (!CustomPathSerializer.customField(typeMappings, jsonPathClassSerializer, model, field, writer)) {
+            super.customField(model, field, config, writer);
+        }
+    }
+
+}
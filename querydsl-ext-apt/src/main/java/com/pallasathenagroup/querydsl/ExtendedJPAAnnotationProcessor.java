@@ -3,20 +3,36 @@ package com.pallasathenagroup.querydsl;
 import com.querydsl.apt.Configuration;
 import com.querydsl.apt.jpa.JPAAnnotationProcessor;
 import com.querydsl.codegen.CodegenModule;
+import com.querydsl.codegen.EntitySerializer;
 import com.querydsl.codegen.TypeMappings;
 
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.TypeElement;
 import javax.persistence.Embeddable;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.MappedSuperclass;
 import javax.persistence.Transient;
 import java.lang.annotation.Annotation;
+import java.util.Set;
 
 @SupportedAnnotationTypes({"com.querydsl.core.annotations.*", "javax.persistence.*"})
 public class ExtendedJPAAnnotationProcessor extends JPAAnnotationProcessor {
 
+    private JsonPathClassSerializer jsonPathClassSerializer;
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (jsonPathClassSerializer == null) {
+            jsonPathClassSerializer = new JsonPathClassSerializer(processingEnv);
+        }
+        boolean processed = super.process(annotations, roundEnv);
+        // the json classes requested while serializing the Q-classes
+        jsonPathClassSerializer.serializeRequested();
+        return processed;
+    }
+
     @Override
     protected Configuration createConfiguration(RoundEnvironment roundEnv) {
         Class<? extends Annotation> entity = Entity.class;
@@ -26,6 +42,8 @@ public class ExtendedJPAAnnotationProcessor extends JPAAnnotationProcessor {
         Class<? extends Annotation> skip = Transient.class;
         CodegenModule codegenModule = new CodegenModule();
         codegenModule.bind(TypeMappings.class, HibernateTypeMappings.class);
+        codegenModule.bind(EntitySerializer.class, ExtendedEntitySerializer.class);
+        codegenModule.bind(JsonPathClassSerializer.class, jsonPathClassSerializer);
         return new ExtendedJPAConfiguration(roundEnv, this.processingEnv, entity, superType, embeddable, embedded, skip, codegenModule);
     }
 }
@@ -168,6 +168,9 @@ public class ExtendedJPAConfiguration extends DefaultConfiguration {
             annotations.addAnnotation(new QueryTypeImpl(propertyType));
         }
 
+        // read by CustomPathSerializer to pass the column definition of array paths
+        annotations.addAnnotation(element.getAnnotation(Column.class));
+
         Map<String, String> hibernateTypeMappings = HibernateTypeMappings.hibernateTypeNameMappings;
         Type type = element.getAnnotation(Type.class);
         if (hibernateTypeMappings != null && type != null && type.type() != null &&
@@ -0,0 +1,291 @@
+package com.pallasathenagroup.querydsl;
+
+import com.pallasathenagroup.querydsl.json.JsonObjectPath;
+import com.querydsl.codegen.utils.model.Type;
+import com.querydsl.codegen.utils.model.TypeCategory;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the typed json paths ({@link JsonObjectPath}) of the classes stored in json columns. The classes
+ * are requested by {@link CustomPathSerializer} while the Q-classes are serialized, and generated with the
+ * classes of their nested objects once the Q-classes are written. The json path of a nested class is named after
+ * its enclosing classes, {@code QJsonNodeEntity_Embed1Json} for {@code JsonNodeEntity.Embed1}.
+ * <p>
+ * Properties are read from the fields of the class and its super classes, named by {@code @JsonProperty}.
+ * Strings, enums and UUIDs are typed as text, numbers and booleans are cast, nested objects get their own path
+ * class and any other property (collections, maps, dates...) is a json expression.
+ */
+final class JsonPathClassSerializer {
+
+    private static final Set<TypeCategory> NOT_OBJECT_CATEGORIES = EnumSet.of(
+            TypeCategory.MAP, TypeCategory.COLLECTION, TypeCategory.LIST, TypeCategory.SET, TypeCategory.ARRAY,
+            TypeCategory.ENUM, TypeCategory.BOOLEAN, TypeCategory.NUMERIC, TypeCategory.STRING,
+            TypeCategory.DATE, TypeCategory.DATETIME, TypeCategory.TIME);
+
+    private static final List<String> NUMBER_TYPES = Arrays.asList(
+            Integer.class.getName(), Long.class.getName(), Short.class.getName(), Byte.class.getName(),
+            Double.class.getName(), Float.class.getName(),
+            java.math.BigDecimal.class.getName(), java.math.BigInteger.class.getName());
+
+    private static final List<String> STRING_TYPES = Arrays.asList(
+            String.class.getName(), Character.class.getName(), java.util.UUID.class.getName());
+
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+
+    private final Set<String> requestedTypes = new LinkedHashSet<>();
+
+    private final Set<String> generatedTypes = new HashSet<>();
+
+    private final ProcessingEnvironment processingEnv;
+
+    JsonPathClassSerializer(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * @return {@code true} if the type of a json column is an object with a typed json path
+     */
+    static boolean isJsonObject(Type type) {
+        return !type.isPrimitive()
+                && type.getParameters().isEmpty()
+                && !NOT_OBJECT_CATEGORIES.contains(type.getCategory())
+                && isApplicationClass(type.getFullName());
+    }
+
+    /**
+     * Request the generation of the json path class of a type
+     * @param type
+     * @return the full name of the json path class
+     */
+    String request(Type type) {
+        requestedTypes.add(type.getFullName());
+        String packageName = type.getPackageName();
+        return getJsonPathClassName(packageName, type.getFullName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1));
+    }
+
+    void serializeRequested() {
+        Deque<TypeElement> queue = new ArrayDeque<>();
+        for (String name : requestedTypes) {
+            TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+            if (element == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Json class " + name + " not found");
+            } else {
+                queue.add(element);
+            }
+        }
+        requestedTypes.clear();
+
+        while (!queue.isEmpty()) {
+            TypeElement element = queue.poll();
+            if (generatedTypes.add(element.getQualifiedName().toString())) {
+                try {
+                    serialize(element, queue);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Could not write json path of " + element + ": " + e.getMessage(), element);
+                }
+            }
+        }
+    }
+
+    private void serialize(TypeElement element, Deque<TypeElement> queue) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        String className = getJsonPathClassName(packageName, getNestedName(element, packageName));
+        String simpleClassName = simpleName(className);
+        String objectType = element.getQualifiedName().toString();
+
+        List<String> fields = new ArrayList<>();
+        List<String> initializers = new ArrayList<>();
+        for (VariableElement field : getProperties(element)) {
+            String name = field.getSimpleName().toString();
+            String key = "\"" + getJsonName(field).replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+            TypeMirror type = field.asType();
+
+            if (type.getKind() == TypeKind.BOOLEAN || isDeclared(type, Boolean.class.getName())) {
+                fields.add("BooleanExpression " + name);
+                initializers.add("createBoolean(" + key + ")");
+            } else if (type.getKind().isPrimitive() && type.getKind() != TypeKind.CHAR) {
+                String boxed = processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getSimpleName().toString();
+                fields.add("NumberExpression<" + boxed + "> " + name);
+                initializers.add("createNumber(" + key + ", " + boxed + ".class)");
+            } else if (isDeclared(type, NUMBER_TYPES)) {
+                String boxed = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString()
+                        .replace("java.lang.", "");
+                fields.add("NumberExpression<" + boxed + "> " + name);
+                initializers.add("createNumber(" + key + ", " + boxed + ".class)");
+            } else if (type.getKind() == TypeKind.CHAR || isDeclared(type, STRING_TYPES) || isEnum(type)) {
+                fields.add("StringExpression " + name);
+                initializers.add("createString(" + key + ")");
+            } else if (isJsonObject(type) && !reaches((TypeElement) ((DeclaredType) type).asElement(), element, new HashSet<>())) {
+                TypeElement nested = (TypeElement) ((DeclaredType) type).asElement();
+                String nestedPackage = processingEnv.getElementUtils().getPackageOf(nested).getQualifiedName().toString();
+                String nestedClassName = getJsonPathClassName(nestedPackage.equals(packageName) ? "" : nestedPackage,
+                        getNestedName(nested, nestedPackage));
+                fields.add(nestedClassName + " " + name);
+                initializers.add("new " + nestedClassName + "(getRoot(), keys(" + key + "))");
+                queue.add(nested);
+            } else {
+                // collections, maps, dates and recursive objects
+                fields.add("JsonOperation<JsonNode> " + name);
+                initializers.add("createJson(" + key + ")");
+            }
+        }
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(className, element).openWriter()) {
+            writer.write("package " + packageName + ";\n\n");
+            writer.write("import com.fasterxml.jackson.databind.JsonNode;\n");
+            writer.write("import com.pallasathenagroup.querydsl.json.JsonExpression;\n");
+            writer.write("import com.pallasathenagroup.querydsl.json.JsonObjectPath;\n");
+            writer.write("import com.pallasathenagroup.querydsl.json.JsonOperation;\n");
+            writer.write("import com.querydsl.core.types.dsl.BooleanExpression;\n");
+            writer.write("import com.querydsl.core.types.dsl.NumberExpression;\n");
+            writer.write("import com.querydsl.core.types.dsl.StringExpression;\n");
+            writer.write("import javax.annotation.processing.Generated;\n\n");
+            writer.write("/**\n * " + simpleClassName + " is a typed json path for " + element.getSimpleName() + "\n */\n");
+            writer.write("@Generated(\"" + JsonPathClassSerializer.class.getName() + "\")\n");
+            writer.write("public class " + simpleClassName + " extends JsonObjectPath<" + objectType + "> {\n\n");
+            for (String field : fields) {
+                writer.write("    public final " + field + ";\n\n");
+            }
+            writer.write("    public " + simpleClassName + "(JsonExpression<?> root) {\n");
+            writer.write("        this(root, new String[0]);\n");
+            writer.write("    }\n\n");
+            writer.write("    public " + simpleClassName + "(JsonExpression<?> root, String[] keys) {\n");
+            writer.write("        super(" + objectType + ".class, root, keys);\n");
+            for (int i = 0; i < fields.size(); i++) {
+                String field = fields.get(i);
+                writer.write("        this." + field.substring(field.lastIndexOf(' ') + 1) + " = " + initializers.get(i) + ";\n");
+            }
+            writer.write("    }\n\n");
+            writer.write("}\n");
+        }
+    }
+
+    private List<VariableElement> getProperties(TypeElement element) {
+        List<VariableElement> properties = new ArrayList<>();
+        TypeElement current = element;
+        while (current != null && isApplicationClass(current.getQualifiedName().toString())) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)
+                        && !field.getModifiers().contains(Modifier.TRANSIENT)
+                        && getAnnotation(field, JSON_IGNORE) == null) {
+                    properties.add(field);
+                }
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return properties;
+    }
+
+    /**
+     * Nested paths are created with their parent, a class reaching itself is typed as a json expression
+     */
+    private boolean reaches(TypeElement from, TypeElement to, Set<TypeElement> visited) {
+        if (from.equals(to)) {
+            return true;
+        }
+        if (!visited.add(from)) {
+            return false;
+        }
+        for (VariableElement field : getProperties(from)) {
+            if (isJsonObject(field.asType())
+                    && reaches((TypeElement) ((DeclaredType) field.asType()).asElement(), to, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isJsonObject(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return false;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return element.getKind() == ElementKind.CLASS && isApplicationClass(element.getQualifiedName().toString());
+    }
+
+    private static boolean isEnum(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    private static boolean isDeclared(TypeMirror type, String name) {
+        return isDeclared(type, Arrays.asList(name));
+    }
+
+    private static boolean isDeclared(TypeMirror type, List<String> names) {
+        return type.getKind() == TypeKind.DECLARED
+                && names.contains(((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString());
+    }
+
+    private static String getJsonName(VariableElement field) {
+        AnnotationMirror jsonProperty = getAnnotation(field, JSON_PROPERTY);
+        if (jsonProperty != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : jsonProperty.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value") && !entry.getValue().getValue().toString().isEmpty()) {
+                    return entry.getValue().getValue().toString();
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    private static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isApplicationClass(String name) {
+        return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("com.fasterxml.");
+    }
+
+    /**
+     * @param nestedName the name of the class in its package, with its enclosing classes, {@code JsonNodeEntity.Embed1}
+     */
+    private static String getJsonPathClassName(String packageName, String nestedName) {
+        return (packageName.isEmpty() ? "" : packageName + ".") + "Q" + nestedName.replace('.', '_').replace('$', '_') + "Json";
+    }
+
+    private static String getNestedName(TypeElement element, String packageName) {
+        String name = element.getQualifiedName().toString();
+        return packageName.isEmpty() ? name : name.substring(packageName.length() + 1);
+    }
+
+    private static String simpleName(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the SQL emitted by the function initializers against a seeded PostgreSQL table.
+ * {@link Mode#SampleTime} reports the p50 and p99 latency of every operator, and the
+ * scan type chosen by the planner is printed once the table is seeded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public abstract class AbstractDatabaseBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+
+    protected abstract Class<?> entityClass();
+
+    protected abstract EntityPath<?> entity();
+
+    protected abstract NumberPath<Long> id();
+
+    /**
+     * Statements that fill the table with {@code rows} rows, the row count is bound to every {@code ?}.
+     */
+    protected abstract List<String> seedStatements();
+
+    protected abstract List<String> indexStatements();
+
+    protected abstract Map<String, Supplier<Predicate>> operators();
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws SQLException {
+        sessionFactory = BenchmarkDatabase.buildSessionFactory(entityClass());
+        entityManager = sessionFactory.createEntityManager();
+
+        entityManager.getTransaction().begin();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            for (String sql : seedStatements()) {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                        statement.setInt(i, rows);
+                    }
+                    statement.executeUpdate();
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : indexStatements()) {
+                    statement.executeUpdate(sql);
+                }
+                statement.executeUpdate("ANALYZE " + tableName());
+            }
+        });
+        entityManager.getTransaction().commit();
+
+        for (String operator : operators().keySet()) {
+            System.out.printf("%n%s.%s on %d rows: %s%n", getClass().getSimpleName(), operator, rows, scanType(operator));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatabase() {
+        if (entityManager != null) {
+            entityManager.close();
+        }
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    protected List<Long> fetch(String operator) {
+        return new JPAQuery<>(entityManager)
+                .select(id())
+                .from(entity())
+                .where(operators().get(operator).get())
+                .fetch();
+    }
+
+    /**
+     * pg_stat_xact_user_tables only holds the counters of the current transaction,
+     * so a growing seq_scan count means that the operator could not use an index.
+     */
+    private String scanType(String operator) {
+        entityManager.getTransaction().begin();
+        try {
+            long before = sequentialScans();
+            fetch(operator);
+            return sequentialScans() > before ? "sequential scan" : "index scan";
+        } finally {
+            entityManager.getTransaction().rollback();
+        }
+    }
+
+    private long sequentialScans() {
+        return ((Number) entityManager
+                .createNativeQuery("SELECT seq_scan FROM pg_stat_xact_user_tables WHERE relname = :table")
+                .setParameter("table", tableName())
+                .getSingleResult()).longValue();
+    }
+
+    private String tableName() {
+        return entityClass().getSimpleName().toLowerCase();
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Common setup for the expression benchmarks, every benchmark is executed once with
+ * {@link ExtendedHQLTemplates} and once with {@link ExtendedJPQLNextTemplates}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractExpressionBenchmark {
+
+    @Param({"hql", "jpql-next"})
+    public String templatesName;
+
+    protected JPQLTemplates templates;
+
+    @Setup
+    public void setUpTemplates() {
+        templates = "hql".equals(templatesName) ? ExtendedHQLTemplates.DEFAULT : ExtendedJPQLNextTemplates.DEFAULT;
+    }
+
+    protected String serialize(Expression<?> expression) {
+        JPQLSerializer serializer = new JPQLSerializer(templates);
+        serializer.handle(expression);
+        return serializer.toString();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.pallasathenagroup.querydsl;
+
+import com.pallasathenagroup.querydsl.ArrayEntity.SensorState;
+import com.pallasathenagroup.querydsl.array.PostgresqlArrayPath;
+import com.pallasathenagroup.querydsl.json.JsonPath;
+import com.querydsl.core.types.PathMetadataFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+import static com.pallasathenagroup.querydsl.QJsonNodeEntity.jsonNodeEntity;
+
+/**
+ * Measures the cost of creating aliases of the generated Q-classes, and of a single array and json path
+ * created with the reflective constructors (as generated before) and with the type and column definition
+ * passed by the annotation processor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AliasCreationBenchmark {
+
+    @Benchmark
+    public Object arrayEntityAlias() {
+        return new QArrayEntity("alias");
+    }
+
+    @Benchmark
+    public Object jsonNodeEntityAlias() {
+        return new QJsonNodeEntity("alias");
+    }
+
+    @Benchmark
+    public Object arrayPathReflective() {
+        return new PostgresqlArrayPath<SensorState[], SensorState>(PathMetadataFactory.forProperty(arrayEntity, "sensorStates"));
+    }
+
+    @Benchmark
+    public Object arrayPath() {
+        return new PostgresqlArrayPath<SensorState[], SensorState>(SensorState[].class, "sensor_state",
+                PathMetadataFactory.forProperty(arrayEntity, "sensorStates"));
+    }
+
+    @Benchmark
+    public Object jsonPathReflective() {
+        return new JsonPath<JsonNodeEntity.Embed1>(PathMetadataFactory.forProperty(jsonNodeEntity, "embed1"));
+    }
+
+    @Benchmark
+    public Object jsonPath() {
+        return new JsonPath<JsonNodeEntity.Embed1>(JsonNodeEntity.Embed1.class, PathMetadataFactory.forProperty(jsonNodeEntity, "embed1"));
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.pallasathenagroup.querydsl;
+
+import com.pallasathenagroup.querydsl.ArrayEntity.SensorState;
+import com.querydsl.core.types.Predicate;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+
+public class ArrayExpressionBenchmark extends AbstractExpressionBenchmark {
+
+    private static final UUID SENSOR_ID = UUID.fromString("c65a3bcb-8b36-46d4-bddb-ae96ad016eb1");
+
+    @Benchmark
+    public Predicate overlapsStrings() {
+        return arrayEntity.sensorNames.overlaps("Temperature", "Humidity");
+    }
+
+    @Benchmark
+    public Predicate overlapsIntegers() {
+        return arrayEntity.sensorValues.overlaps(12, 13);
+    }
+
+    @Benchmark
+    public Predicate overlapsUuids() {
+        return arrayEntity.sensorIds.overlaps(SENSOR_ID);
+    }
+
+    @Benchmark
+    public Predicate overlapsEnums() {
+        return arrayEntity.sensorStates.overlaps(SensorState.ONLINE, SensorState.UNKNOWN);
+    }
+
+    @Benchmark
+    public Predicate containsEnums() {
+        return arrayEntity.sensorStates.contains(SensorState.ONLINE);
+    }
+
+    @Benchmark
+    public String overlapsStringsSerialized() {
+        return serialize(overlapsStrings());
+    }
+
+    @Benchmark
+    public String overlapsIntegersSerialized() {
+        return serialize(overlapsIntegers());
+    }
+
+    @Benchmark
+    public String overlapsUuidsSerialized() {
+        return serialize(overlapsUuids());
+    }
+
+    @Benchmark
+    public String overlapsEnumsSerialized() {
+        return serialize(overlapsEnums());
+    }
+
+    @Benchmark
+    public String containsEnumsSerialized() {
+        return serialize(containsEnums());
+    }
+
+}
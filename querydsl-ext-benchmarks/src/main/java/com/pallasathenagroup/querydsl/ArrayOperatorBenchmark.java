@@ -0,0 +1,88 @@
+package com.pallasathenagroup.querydsl;
+
+import com.google.common.collect.ImmutableMap;
+import com.pallasathenagroup.querydsl.ArrayEntity.SensorState;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+
+public class ArrayOperatorBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final Map<String, Supplier<Predicate>> OPERATORS = ImmutableMap.of(
+            "overlaps", () -> arrayEntity.sensorNames.overlaps("s42", "s43"),
+            "contains", () -> arrayEntity.sensorNames.contains("s42"),
+            "isContainedBy", () -> arrayEntity.sensorValues.isContainedBy(42, 43, 44),
+            "overlapsEnums", () -> arrayEntity.sensorStates.overlaps(SensorState.UNKNOWN),
+            "get", () -> arrayEntity.sensorNames.get(0).eq("s42"));
+
+    @Override
+    protected Class<?> entityClass() {
+        return ArrayEntity.class;
+    }
+
+    @Override
+    protected EntityPath<?> entity() {
+        return arrayEntity;
+    }
+
+    @Override
+    protected NumberPath<Long> id() {
+        return arrayEntity.id;
+    }
+
+    @Override
+    protected List<String> seedStatements() {
+        return List.of("INSERT INTO ArrayEntity (id, sensor_ids, sensor_names, sensor_values, sensor_states) " +
+                "SELECT i, " +
+                "ARRAY[md5(i::text)::uuid], " +
+                "ARRAY['s' || (i % 1000), 's' || ((i + 1) % 1000)], " +
+                "ARRAY[i % 1000, (i + 1) % 1000], " +
+                "ARRAY[(CASE WHEN i % 1000 = 0 THEN 'UNKNOWN' WHEN i % 2 = 0 THEN 'ONLINE' ELSE 'OFFLINE' END)::sensor_state] " +
+                "FROM generate_series(1, ?) i");
+    }
+
+    @Override
+    protected List<String> indexStatements() {
+        return List.of(
+                "CREATE INDEX ON ArrayEntity USING GIN (sensor_names)",
+                "CREATE INDEX ON ArrayEntity USING GIN (sensor_values)",
+                "CREATE INDEX ON ArrayEntity USING GIN (sensor_states)");
+    }
+
+    @Override
+    protected Map<String, Supplier<Predicate>> operators() {
+        return OPERATORS;
+    }
+
+    @Benchmark
+    public List<Long> overlaps() {
+        return fetch("overlaps");
+    }
+
+    @Benchmark
+    public List<Long> contains() {
+        return fetch("contains");
+    }
+
+    @Benchmark
+    public List<Long> isContainedBy() {
+        return fetch("isContainedBy");
+    }
+
+    @Benchmark
+    public List<Long> overlapsEnums() {
+        return fetch("overlapsEnums");
+    }
+
+    @Benchmark
+    public List<Long> get() {
+        return fetch("get");
+    }
+
+}
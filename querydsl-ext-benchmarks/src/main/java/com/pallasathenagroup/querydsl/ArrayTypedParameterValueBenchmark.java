@@ -0,0 +1,67 @@
+package com.pallasathenagroup.querydsl;
+
+import com.pallasathenagroup.querydsl.ArrayEntity.SensorState;
+import com.pallasathenagroup.querydsl.array.PostgresqlArrayExpression;
+import com.querydsl.core.types.Predicate;
+import com.vladmihalcea.hibernate.type.array.EnumArrayType;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.jpa.TypedParameterValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+
+/**
+ * Compares the cached array type lookup of {@link PostgresqlArrayExpression#getTypedParameterValue}
+ * with allocating a new {@link EnumArrayType} per bind, as was done before the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayTypedParameterValueBenchmark {
+
+    private static final SensorState[] STATES = {SensorState.ONLINE, SensorState.UNKNOWN};
+
+    private static final String[] NAMES = {"Temperature", "Humidity"};
+
+    @Benchmark
+    public Object enumArray() {
+        return PostgresqlArrayExpression.getTypedParameterValue(STATES, "sensor_state");
+    }
+
+    @Benchmark
+    public Object enumArrayUncached() {
+        return new TypedParameterValue(new EnumArrayType(SensorState.class, "sensor_state"), STATES);
+    }
+
+    @Benchmark
+    public Object stringArray() {
+        return PostgresqlArrayExpression.getTypedParameterValue(NAMES, null);
+    }
+
+    @Benchmark
+    public Predicate overlapsEnums() {
+        return arrayEntity.sensorStates.overlaps(STATES);
+    }
+
+    @Benchmark
+    public Predicate containsEnums() {
+        return arrayEntity.sensorStates.contains(STATES);
+    }
+
+    @Benchmark
+    public Predicate overlapsStrings() {
+        return arrayEntity.sensorNames.overlaps(NAMES);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.pallasathenagroup.querydsl;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+
+/**
+ * Connection settings for the database backed benchmarks, which expect a locally started PostgreSQL.
+ * Override with {@code -Dbenchmark.jdbc.url=...}, {@code -Dbenchmark.jdbc.user=...} and
+ * {@code -Dbenchmark.jdbc.password=...}.
+ */
+final class BenchmarkDatabase {
+
+    static final String URL = System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/postgres");
+    static final String USER = System.getProperty("benchmark.jdbc.user", "postgres");
+    static final String PASSWORD = System.getProperty("benchmark.jdbc.password", "postgres");
+
+    private BenchmarkDatabase() {
+    }
+
+    static SessionFactory buildSessionFactory(Class<?>... annotatedClasses) throws SQLException {
+        // The hstore column can only be created once the extension exists
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE EXTENSION IF NOT EXISTS hstore");
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty(Environment.DIALECT, "org.hibernate.dialect.PostgreSQL95Dialect");
+        properties.setProperty(Environment.DRIVER, "org.postgresql.Driver");
+        properties.setProperty(Environment.HBM2DDL_AUTO, "create");
+        properties.setProperty(Environment.URL, URL);
+        properties.setProperty(Environment.USER, USER);
+        properties.setProperty(Environment.PASS, PASSWORD);
+
+        StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+                .applySettings(properties)
+                .build();
+        MetadataSources metadataSources = new MetadataSources(serviceRegistry);
+        for (Class<?> annotatedClass : annotatedClasses) {
+            metadataSources.addAnnotatedClass(annotatedClass);
+        }
+
+        MetadataBuilder metadataBuilder = metadataSources.getMetadataBuilder();
+        new GlobalMetadataBuilderContributor().contribute(metadataBuilder);
+        return metadataBuilder.build().buildSessionFactory();
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.pallasathenagroup.querydsl;
+
+import com.google.common.collect.Range;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import java.time.Duration;
+import java.time.Period;
+import java.time.YearMonth;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+import static com.pallasathenagroup.querydsl.QRangeEntity.rangeEntity;
+
+public class HibernateTypesExpressionsBenchmark extends AbstractExpressionBenchmark {
+
+    private static final Range<Integer> RANGE = Range.closed(1, 10);
+
+    @Benchmark
+    public Predicate createArrayExpression() {
+        return HibernateTypesExpressions.createArrayExpression("a", "b", "c")
+                .isContainedBy(arrayEntity.sensorNames);
+    }
+
+    @Benchmark
+    public Predicate createEnumArrayExpression() {
+        return HibernateTypesExpressions.createArrayExpression("sensor_state",
+                ArrayEntity.SensorState.ONLINE, ArrayEntity.SensorState.OFFLINE)
+                .isContainedBy(arrayEntity.sensorStates);
+    }
+
+    @Benchmark
+    public Predicate createRangeExpression() {
+        return HibernateTypesExpressions.createRangeExpression(RANGE).contains(rangeEntity.rangeInt);
+    }
+
+    @Benchmark
+    public Expression<?> duration() {
+        return HibernateTypesExpressions.duration(Duration.ofHours(1)).add(Duration.ofMinutes(30));
+    }
+
+    @Benchmark
+    public Expression<?> period() {
+        return HibernateTypesExpressions.period(Period.ofDays(1)).add(Period.ofMonths(1));
+    }
+
+    @Benchmark
+    public Predicate yearMonth() {
+        return HibernateTypesExpressions.yearMonth(YearMonth.of(2020, 1)).before(YearMonth.of(2021, 1));
+    }
+
+    @Benchmark
+    public String createArrayExpressionSerialized() {
+        return serialize(createArrayExpression());
+    }
+
+    @Benchmark
+    public String createEnumArrayExpressionSerialized() {
+        return serialize(createEnumArrayExpression());
+    }
+
+    @Benchmark
+    public String createRangeExpressionSerialized() {
+        return serialize(createRangeExpression());
+    }
+
+    @Benchmark
+    public String durationSerialized() {
+        return serialize(duration());
+    }
+
+    @Benchmark
+    public String periodSerialized() {
+        return serialize(period());
+    }
+
+    @Benchmark
+    public String yearMonthSerialized() {
+        return serialize(yearMonth());
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.pallasathenagroup.querydsl;
+
+import com.google.common.collect.ImmutableMap;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QHstoreEntity.hstoreEntity;
+
+public class HstoreOperatorBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final Map<String, Supplier<Predicate>> OPERATORS = ImmutableMap.of(
+            "containsKey", () -> hstoreEntity.hstore.containsKey("k42"),
+            "contains", () -> hstoreEntity.hstore.contains("k42", "v42"),
+            "get", () -> hstoreEntity.hstore.get("k42").isNotNull());
+
+    @Override
+    protected Class<?> entityClass() {
+        return HstoreEntity.class;
+    }
+
+    @Override
+    protected EntityPath<?> entity() {
+        return hstoreEntity;
+    }
+
+    @Override
+    protected NumberPath<Long> id() {
+        return hstoreEntity.id;
+    }
+
+    @Override
+    protected List<String> seedStatements() {
+        return List.of("INSERT INTO HstoreEntity (id, hstore) " +
+                "SELECT i, hstore('k' || (i % 1000), 'v' || (i % 1000)) " +
+                "FROM generate_series(1, ?) i");
+    }
+
+    @Override
+    protected List<String> indexStatements() {
+        return List.of("CREATE INDEX ON HstoreEntity USING GIN (hstore)");
+    }
+
+    @Override
+    protected Map<String, Supplier<Predicate>> operators() {
+        return OPERATORS;
+    }
+
+    @Benchmark
+    public List<Long> containsKey() {
+        return fetch("containsKey");
+    }
+
+    @Benchmark
+    public List<Long> contains() {
+        return fetch("contains");
+    }
+
+    @Benchmark
+    public List<Long> get() {
+        return fetch("get");
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.pallasathenagroup.querydsl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pallasathenagroup.querydsl.json.JsonMappers;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the serialization of a json constant as done before {@link JsonMappers} (a tree by
+ * {@link ObjectMapper#valueToTree(Object)} written again when bound), with the writer cached for the class,
+ * and with the json cached for the constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonConstantBenchmark {
+
+    private static final Map<String, Object> DEFAULT_SETTINGS = Map.of(
+            "theme", "dark",
+            "language", "en",
+            "notifications", Map.of("email", true, "sms", false, "push", true),
+            "dashboard", List.of("sales", "orders", "inventory", "customers"),
+            "pageSize", 50);
+
+    private final ObjectMapper objectMapper = JsonMappers.getObjectMapper();
+
+    @Benchmark
+    public String valueToTree() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(objectMapper.valueToTree(DEFAULT_SETTINGS));
+    }
+
+    @Benchmark
+    public String writeValueAsString() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(DEFAULT_SETTINGS);
+    }
+
+    @Benchmark
+    public String cachedWriter() {
+        return JsonMappers.toJson(DEFAULT_SETTINGS);
+    }
+
+    @Benchmark
+    public Object cachedConstant() {
+        return JsonMappers.cached(DEFAULT_SETTINGS);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.types.Predicate;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QJsonNodeEntity.jsonNodeEntity;
+
+public class JsonExpressionBenchmark extends AbstractExpressionBenchmark {
+
+    @Benchmark
+    public Predicate getDottedPath() {
+        return jsonNodeEntity.embed1.get("embed1_attr2.embed2_attr1").asText().eq("embed2_attr1");
+    }
+
+    @Benchmark
+    public Predicate getKeys() {
+        return jsonNodeEntity.embed1.get("embed1_attr2", "embed2_attr1").asText().eq("embed2_attr1");
+    }
+
+    @Benchmark
+    public Predicate getAsInteger() {
+        return jsonNodeEntity.embed1.get("embed1_int").asInteger().eq(1);
+    }
+
+    @Benchmark
+    public Predicate contains() {
+        return jsonNodeEntity.embed1.contains(Map.of("embed1_intList", List.of(1)));
+    }
+
+    @Benchmark
+    public Predicate containsKey() {
+        return jsonNodeEntity.jsonNode.containsKey("a");
+    }
+
+    @Benchmark
+    public String getDottedPathSerialized() {
+        return serialize(getDottedPath());
+    }
+
+    @Benchmark
+    public String getKeysSerialized() {
+        return serialize(getKeys());
+    }
+
+    @Benchmark
+    public String getAsIntegerSerialized() {
+        return serialize(getAsInteger());
+    }
+
+    @Benchmark
+    public String containsSerialized() {
+        return serialize(contains());
+    }
+
+    @Benchmark
+    public String containsKeySerialized() {
+        return serialize(containsKey());
+    }
+
+}
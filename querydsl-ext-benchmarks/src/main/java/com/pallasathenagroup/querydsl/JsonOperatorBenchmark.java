@@ -0,0 +1,94 @@
+package com.pallasathenagroup.querydsl;
+
+import com.google.common.collect.ImmutableMap;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QJsonNodeEntity.jsonNodeEntity;
+
+public class JsonOperatorBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final Map<String, Supplier<Predicate>> OPERATORS = ImmutableMap.<String, Supplier<Predicate>>builder()
+            .put("containsKey", () -> jsonNodeEntity.jsonNode.containsKey("k42"))
+            .put("contains", () -> jsonNodeEntity.jsonNode.contains(ImmutableMap.of("tag", "t42")))
+            .put("getAsText", () -> jsonNodeEntity.jsonNode.get("tag").asText().eq("t42"))
+            .put("getNestedAsText", () -> jsonNodeEntity.embed1.get("embed1_attr2.embed2_attr1").asText().eq("b42"))
+            .put("containsNested", () -> jsonNodeEntity.embed1.contains(
+                    ImmutableMap.of("embed1_attr2", ImmutableMap.of("embed2_attr1", "b42"))))
+            .put("jsonPathExists", () -> jsonNodeEntity.embed1.jsonPathExists("$.embed1_attr2 ? (@.embed2_attr1 == \"b42\")"))
+            .build();
+
+    @Override
+    protected Class<?> entityClass() {
+        return JsonNodeEntity.class;
+    }
+
+    @Override
+    protected EntityPath<?> entity() {
+        return jsonNodeEntity;
+    }
+
+    @Override
+    protected NumberPath<Long> id() {
+        return jsonNodeEntity.id;
+    }
+
+    @Override
+    protected List<String> seedStatements() {
+        return List.of("INSERT INTO JsonNodeEntity (id, jsonNode, embed_1, list_int) " +
+                "SELECT i, " +
+                "jsonb_build_object('k' || (i % 1000), i, 'tag', 't' || (i % 1000)), " +
+                "jsonb_build_object('embed1_attr1', 'a' || (i % 1000), 'embed1_int', i % 1000, " +
+                "'embed1_attr2', jsonb_build_object('embed2_attr1', 'b' || (i % 1000))), " +
+                "jsonb_build_array(i % 1000, (i + 1) % 1000) " +
+                "FROM generate_series(1, ?) i");
+    }
+
+    @Override
+    protected List<String> indexStatements() {
+        return List.of(
+                "CREATE INDEX ON JsonNodeEntity USING GIN (jsonNode)",
+                "CREATE INDEX ON JsonNodeEntity USING GIN (embed_1)");
+    }
+
+    @Override
+    protected Map<String, Supplier<Predicate>> operators() {
+        return OPERATORS;
+    }
+
+    @Benchmark
+    public List<Long> containsKey() {
+        return fetch("containsKey");
+    }
+
+    @Benchmark
+    public List<Long> contains() {
+        return fetch("contains");
+    }
+
+    @Benchmark
+    public List<Long> getAsText() {
+        return fetch("getAsText");
+    }
+
+    @Benchmark
+    public List<Long> getNestedAsText() {
+        return fetch("getNestedAsText");
+    }
+
+    @Benchmark
+    public List<Long> containsNested() {
+        return fetch("containsNested");
+    }
+
+    @Benchmark
+    public List<Long> jsonPathExists() {
+        return fetch("jsonPathExists");
+    }
+
+}
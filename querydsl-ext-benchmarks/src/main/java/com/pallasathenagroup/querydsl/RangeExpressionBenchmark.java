@@ -0,0 +1,46 @@
+package com.pallasathenagroup.querydsl;
+
+import com.google.common.collect.Range;
+import com.querydsl.core.types.Predicate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QRangeEntity.rangeEntity;
+
+public class RangeExpressionBenchmark extends AbstractExpressionBenchmark {
+
+    private static final Range<LocalDateTime> RANGE = Range.closedOpen(
+            LocalDate.of(2019, 1, 1).atStartOfDay(), LocalDate.of(2021, 1, 1).atStartOfDay());
+
+    @Benchmark
+    public Predicate overlaps() {
+        return rangeEntity.localDateTimeRange.overlaps(RANGE);
+    }
+
+    @Benchmark
+    public Predicate isContainedBy() {
+        return rangeEntity.localDateTimeRange.isContainedBy(RANGE);
+    }
+
+    @Benchmark
+    public Predicate containsElement() {
+        return rangeEntity.rangeInt.contains(5);
+    }
+
+    @Benchmark
+    public String overlapsSerialized() {
+        return serialize(overlaps());
+    }
+
+    @Benchmark
+    public String isContainedBySerialized() {
+        return serialize(isContainedBy());
+    }
+
+    @Benchmark
+    public String containsElementSerialized() {
+        return serialize(containsElement());
+    }
+
+}
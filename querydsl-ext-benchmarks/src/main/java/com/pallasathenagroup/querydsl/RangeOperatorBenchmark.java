@@ -0,0 +1,89 @@
+package com.pallasathenagroup.querydsl;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Range;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QRangeEntity.rangeEntity;
+
+public class RangeOperatorBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private static final Map<String, Supplier<Predicate>> OPERATORS = ImmutableMap.of(
+            "overlaps", () -> rangeEntity.localDateTimeRange.overlaps(
+                    Range.closedOpen(START.plusMinutes(4200), START.plusMinutes(4260))),
+            "containsElement", () -> rangeEntity.rangeInt.contains(4200),
+            "isContainedBy", () -> rangeEntity.rangeInt.isContainedBy(Range.closedOpen(4200, 4300)),
+            "strictlyLeftOf", () -> rangeEntity.rangeInt.strictlyLeftOf(Range.closedOpen(0, 100)),
+            "lowerBound", () -> rangeEntity.rangeInt.lower().eq(4200));
+
+    @Override
+    protected Class<?> entityClass() {
+        return RangeEntity.class;
+    }
+
+    @Override
+    protected EntityPath<?> entity() {
+        return rangeEntity;
+    }
+
+    @Override
+    protected NumberPath<Long> id() {
+        return rangeEntity.id;
+    }
+
+    @Override
+    protected List<String> seedStatements() {
+        return List.of("INSERT INTO RangeEntity (id, localDateTimeRange, r_int) " +
+                "SELECT i, " +
+                "tsrange(TIMESTAMP '2000-01-01' + i * INTERVAL '1 minute', TIMESTAMP '2000-01-01' + (i + 60) * INTERVAL '1 minute'), " +
+                "int4range(i, i + 10) " +
+                "FROM generate_series(1, ?) i");
+    }
+
+    @Override
+    protected List<String> indexStatements() {
+        return List.of(
+                "CREATE INDEX ON RangeEntity USING GIST (localDateTimeRange)",
+                "CREATE INDEX ON RangeEntity USING GIST (r_int)");
+    }
+
+    @Override
+    protected Map<String, Supplier<Predicate>> operators() {
+        return OPERATORS;
+    }
+
+    @Benchmark
+    public List<Long> overlaps() {
+        return fetch("overlaps");
+    }
+
+    @Benchmark
+    public List<Long> containsElement() {
+        return fetch("containsElement");
+    }
+
+    @Benchmark
+    public List<Long> isContainedBy() {
+        return fetch("isContainedBy");
+    }
+
+    @Benchmark
+    public List<Long> strictlyLeftOf() {
+        return fetch("strictlyLeftOf");
+    }
+
+    @Benchmark
+    public List<Long> lowerBound() {
+        return fetch("lowerBound");
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.JoinType;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.Expressions;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.pallasathenagroup.querydsl.QJsonNodeEntity.jsonNodeEntity;
+
+/**
+ * Measures {@link ExtendJPQLSerializer#serializeForUpdate}, which runs on every
+ * {@link ExtendJpaUpdateClause#execute()}.
+ */
+public class UpdateSerializationBenchmark extends AbstractExpressionBenchmark {
+
+    @Benchmark
+    public String updateColumns() {
+        Map<Path<?>, Expression<?>> updates = new LinkedHashMap<>();
+        updates.put(jsonNodeEntity.intNumber, Expressions.constant(1));
+        updates.put(jsonNodeEntity.listInt, jsonNodeEntity.listInt.concat(List.of(5)));
+        return serializeForUpdate(updates, Set.of());
+    }
+
+    @Benchmark
+    public String updateJsonPaths() {
+        Set<ExtendJpaUpdateClause.JsonUpdatePair> jsonUpdates = new LinkedHashSet<>();
+        jsonUpdates.add(new ExtendJpaUpdateClause.JsonUpdatePair(jsonNodeEntity.embed1, new String[]{"embed1_int"}, 100));
+        jsonUpdates.add(new ExtendJpaUpdateClause.JsonUpdatePair(jsonNodeEntity.embed1, new String[]{"embed1_attr1"}, "value"));
+        jsonUpdates.add(new ExtendJpaUpdateClause.JsonUpdatePair(jsonNodeEntity.embed1, new String[]{"embed1_attr2", "embed2_attr1"}, "value"));
+        return serializeForUpdate(new LinkedHashMap<>(), jsonUpdates);
+    }
+
+    private String serializeForUpdate(Map<Path<?>, Expression<?>> updates,
+                                      Set<ExtendJpaUpdateClause.JsonUpdatePair> jsonUpdates) {
+        QueryMetadata metadata = new DefaultQueryMetadata();
+        metadata.addJoin(JoinType.DEFAULT, jsonNodeEntity);
+        metadata.addWhere(jsonNodeEntity.id.eq(1L));
+
+        ExtendJPQLSerializer serializer = new ExtendJPQLSerializer(templates);
+        serializer.serializeForUpdate(metadata, updates, jsonUpdates);
+        return serializer.toString();
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.pallasathenagroup.querydsl;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+/**
+ * An aggregate with an order by and a filter clause, which HQL can't parse in the arguments of a function.
+ * The arguments are the values of the aggregate, the order by expressions, rendered with their direction by
+ * {@link OrderFunction}, then the filter if {@code filter} is set. HQL doesn't keep a predicate as the argument of
+ * a function, the filter is a {@code CASE} that is 1 for the filtered rows. The arguments keep the order of the
+ * rendered SQL, as the parameters are bound in the order of the HQL.
+ * <pre>
+ * JSON_AGG_FILTER(value, JSON_AGG_ORDER_DESC(key), case when filter then 1 end)
+ * -- becomes
+ * jsonb_agg(value ORDER BY key DESC) FILTER (WHERE case when filter then 1 end = 1)
+ * </pre>
+ */
+public class AggregateFunction implements SQLFunction {
+
+    private final Type returnType;
+    private final String name;
+    private final int valueArguments;
+    private final boolean filter;
+
+    public AggregateFunction(Type returnType, String name, int valueArguments, boolean filter) {
+        this.returnType = returnType;
+        this.name = name;
+        this.valueArguments = valueArguments;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return true;
+    }
+
+    @Override
+    public Type getReturnType(Type firstArgumentType, Mapping mapping) throws QueryException {
+        return returnType;
+    }
+
+    @Override
+    public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory) throws QueryException {
+        int orderByEnd = arguments.size() - (filter ? 1 : 0);
+        if (orderByEnd < valueArguments) {
+            throw new QueryException(name + " requires at least " + (valueArguments + (filter ? 1 : 0)) + " arguments");
+        }
+
+        StringBuilder sql = new StringBuilder(name).append('(');
+        sql.append(String.join(", ", arguments.subList(0, valueArguments)));
+        if (orderByEnd > valueArguments) {
+            sql.append(" ORDER BY ").append(String.join(", ", arguments.subList(valueArguments, orderByEnd)));
+        }
+        sql.append(')');
+        if (filter) {
+            sql.append(" FILTER (WHERE ").append(arguments.get(orderByEnd)).append(" = 1)");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * An order by expression of an {@link AggregateFunction}, {@code JSON_AGG_ORDER_DESC(key)} renders as {@code key DESC}
+     */
+    public static class OrderFunction implements SQLFunction {
+
+        private final String order;
+
+        public OrderFunction(String order) {
+            this.order = order;
+        }
+
+        @Override
+        public boolean hasArguments() {
+            return true;
+        }
+
+        @Override
+        public boolean hasParenthesesIfNoArguments() {
+            return false;
+        }
+
+        @Override
+        public Type getReturnType(Type firstArgumentType, Mapping mapping) throws QueryException {
+            return firstArgumentType;
+        }
+
+        @Override
+        public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory) throws QueryException {
+            if (arguments.size() != 1) {
+                throw new QueryException("The order of an aggregate requires a single argument");
+            }
+            return arguments.get(0) + " " + order;
+        }
+
+    }
+
+}
@@ -9,13 +9,14 @@ import com.vladmihalcea.hibernate.type.array.StringArrayType;
 import com.vladmihalcea.hibernate.type.array.TimestampArrayType;
 import com.vladmihalcea.hibernate.type.array.UUIDArrayType;
 import com.vladmihalcea.hibernate.type.array.internal.AbstractArrayType;
-import com.vladmihalcea.hibernate.type.array.internal.AbstractArrayTypeDescriptor;
 import com.vladmihalcea.hibernate.type.basic.PostgreSQLEnumType;
 import com.vladmihalcea.hibernate.util.ReflectionUtils;
 import java.lang.reflect.Array;
 import java.sql.Timestamp;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.hibernate.QueryException;
 import org.hibernate.TypeHelper;
 import org.hibernate.boot.MetadataBuilder;
@@ -67,82 +68,103 @@ public class ArrayFunctionInitializer implements MetadataBuilderInitializer {
             }
         });
 
+        ReturnTypeCache returnTypeCache = new ReturnTypeCache();
+
         metadataBuilder.applySqlFunction("ARRAY_ELEMENT_AT", new SQLFunctionTemplate(null, "?1[?2+1]") {
             @Override
             public Type getReturnType(Type argumentType, Mapping mapping) throws QueryException {
-                if (argumentType == null) {
-                    return null;
-                }
-
-                TypeHelper typeHelper = ((SessionFactoryImpl) mapping).getTypeHelper();
-                AbstractArrayTypeDescriptor javaTypeDescriptor = (AbstractArrayTypeDescriptor) ((AbstractArrayType) argumentType).getJavaTypeDescriptor();
-                Class<?> getJavaType = ReflectionUtils.getFieldValue(javaTypeDescriptor, "arrayObjectClass");
-                Class componentType = getJavaType.getComponentType();
-                Type basic = typeHelper.basic(componentType);
-
-                if (basic == null) {
-                    basic = new CustomType(new PostgreSQLEnumType(componentType));
-                }
-
-                return basic;
+                return returnTypeCache.getElementType(argumentType, mapping);
             }
         });
 
         metadataBuilder.applySqlFunction("ARRAY_UNNEST", new SQLFunctionTemplate(null, "UNNEST(?1)") {
             @Override
             public Type getReturnType(Type argumentType, Mapping mapping) throws QueryException {
-                if (argumentType == null) {
-                    return null;
-                }
-
-                TypeHelper typeHelper = ((SessionFactoryImpl) mapping).getTypeHelper();
-                JavaTypeDescriptor javaTypeDescriptor = ((AbstractArrayType) argumentType).getJavaTypeDescriptor();
-                Class getJavaType = ReflectionUtils.<Class<?>> getFieldValue(javaTypeDescriptor, "arrayObjectClass");
-                Class componentType = getJavaType.getComponentType();
-                Type basic = typeHelper.basic(componentType);
-
-                if (basic == null) {
-                    basic = new CustomType(new PostgreSQLEnumType(componentType));
-                }
-
-                return basic;
+                return returnTypeCache.getElementType(argumentType, mapping);
             }
         });
 
         metadataBuilder.applySqlFunction("ARRAY_AGG", new SQLFunctionTemplate(null, "ARRAY_AGG(?1)") {
             @Override
             public Type getReturnType(Type argumentType, Mapping mapping) throws QueryException {
-                if (argumentType == null) {
-                    return null;
-                }
+                return returnTypeCache.getArrayType(argumentType);
+            }
+        });
 
-                Class<?> componentType = argumentType.getReturnedClass();
-
-                if (argumentType instanceof CustomType) {
-                    CustomType customType = (CustomType) argumentType;
-                    UserType userType = customType.getUserType();
-                    if (userType instanceof PostgreSQLEnumType) {
-                        return new EnumArrayType(Array.newInstance(componentType, 0).getClass(), "");
-                    }
-                } else if (componentType.equals(UUID.class)) {
-                    return UUIDArrayType.INSTANCE;
-                } else if (componentType.equals(String.class)) {
-                    return StringArrayType.INSTANCE;
-                } else if (componentType.equals(int.class) || componentType.equals(Integer.class)) {
-                    return IntArrayType.INSTANCE;
-                } else if (componentType.equals(long.class) || componentType.equals(Long.class)) {
-                    return LongArrayType.INSTANCE;
-                } else if (componentType.equals(double.class) || componentType.equals(Double.class)) {
-                    return DoubleArrayType.INSTANCE;
-                } else if (Timestamp.class.isAssignableFrom(componentType)) {
-                    return TimestampArrayType.INSTANCE;
-                } else if (Date.class.isAssignableFrom(componentType)) {
-                    return DateArrayType.INSTANCE;
-                }
+    }
 
-                throw new IllegalStateException("Array_agg is not supported for " + componentType + " mapped by " + argumentType);
+    /**
+     * Memoizes the return types of the array functions per argument type, as they are resolved each time
+     * HQL using them is translated. Created per metadata build, so the cached types don't outlive the
+     * session factory they belong to.
+     */
+    private static final class ReturnTypeCache {
+
+        private final ConcurrentMap<Type, Type> elementTypes = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<Type, Type> arrayTypes = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<Class<?>, Type> enumTypes = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<Class<?>, Type> enumArrayTypes = new ConcurrentHashMap<>();
+
+        Type getElementType(Type argumentType, Mapping mapping) {
+            if (argumentType == null) {
+                return null;
             }
-        });
+            return elementTypes.computeIfAbsent(argumentType, type -> resolveElementType(type, mapping));
+        }
+
+        Type getArrayType(Type argumentType) {
+            if (argumentType == null) {
+                return null;
+            }
+            return arrayTypes.computeIfAbsent(argumentType, this::resolveArrayType);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Type resolveElementType(Type argumentType, Mapping mapping) {
+            TypeHelper typeHelper = ((SessionFactoryImpl) mapping).getTypeHelper();
+            JavaTypeDescriptor javaTypeDescriptor = ((AbstractArrayType) argumentType).getJavaTypeDescriptor();
+            Class<?> getJavaType = ReflectionUtils.getFieldValue(javaTypeDescriptor, "arrayObjectClass");
+            Class<?> componentType = getJavaType.getComponentType();
+            Type basic = typeHelper.basic(componentType);
+
+            if (basic == null) {
+                basic = enumTypes.computeIfAbsent(componentType, enumClass -> new CustomType(new PostgreSQLEnumType((Class<? extends Enum>) enumClass)));
+            }
+
+            return basic;
+        }
+
+        private Type resolveArrayType(Type argumentType) {
+            Class<?> componentType = argumentType.getReturnedClass();
+
+            if (argumentType instanceof CustomType) {
+                CustomType customType = (CustomType) argumentType;
+                UserType userType = customType.getUserType();
+                if (userType instanceof PostgreSQLEnumType) {
+                    return enumArrayTypes.computeIfAbsent(componentType,
+                            enumClass -> new EnumArrayType(Array.newInstance(enumClass, 0).getClass(), ""));
+                }
+            } else if (componentType.equals(UUID.class)) {
+                return UUIDArrayType.INSTANCE;
+            } else if (componentType.equals(String.class)) {
+                return StringArrayType.INSTANCE;
+            } else if (componentType.equals(int.class) || componentType.equals(Integer.class)) {
+                return IntArrayType.INSTANCE;
+            } else if (componentType.equals(long.class) || componentType.equals(Long.class)) {
+                return LongArrayType.INSTANCE;
+            } else if (componentType.equals(double.class) || componentType.equals(Double.class)) {
+                return DoubleArrayType.INSTANCE;
+            } else if (Timestamp.class.isAssignableFrom(componentType)) {
+                return TimestampArrayType.INSTANCE;
+            } else if (Date.class.isAssignableFrom(componentType)) {
+                return DateArrayType.INSTANCE;
+            }
+
+            throw new IllegalStateException("Array_agg is not supported for " + componentType + " mapped by " + argumentType);
+        }
 
     }
 
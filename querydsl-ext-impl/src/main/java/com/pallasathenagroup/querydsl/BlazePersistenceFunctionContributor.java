@@ -16,6 +16,8 @@ public class BlazePersistenceFunctionContributor implements CriteriaBuilderConfi
 
     @Override
     public void contribute(CriteriaBuilderConfiguration config) {
+        config.registerFunction(new JpqlFunctionGroup("IN_ARRAY", false));
+        config.registerFunction(new JpqlFunctionGroup("NOT_IN_ARRAY", false));
         config.registerFunction(new JpqlFunctionGroup("CAST_YEARMONTH", false));
         config.registerFunction(new JpqlFunctionGroup("CAST_MONTH", false));
         config.registerFunction(new JpqlFunctionGroup("CAST_YEAR", false));
@@ -64,9 +66,29 @@ public class BlazePersistenceFunctionContributor implements CriteriaBuilderConfi
         config.registerFunction(new JpqlFunctionGroup("PERIOD_MIN", true));
         config.registerFunction(new JpqlFunctionGroup("PERIOD_SUM", true));
         config.registerFunction(new JpqlFunctionGroup("JSON_CONTAINS_KEY", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_HAS_KEY", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_CONTAINS_ANY_KEY", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_CONTAINS_ALL_KEYS", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_PATH_EXISTS", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_PATH_EXISTS_VARS", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_PATH_MATCH", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_PATH_MATCH_VARS", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_PATH_QUERY_FIRST", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_PATH_QUERY_FIRST_VARS", false));
         config.registerFunction(new JpqlFunctionGroup("JSON_GET", false));
         config.registerFunction(new JpqlFunctionGroup("JSON_GET_TEXT", false));
         config.registerFunction(new JpqlFunctionGroup("JSON_CONCAT", false));
+        config.registerFunction(new JpqlFunctionGroup("RAW_JSON", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_AGG", true));
+        config.registerFunction(new JpqlFunctionGroup("JSON_AGG_FILTER", true));
+        config.registerFunction(new JpqlFunctionGroup("JSON_OBJECT_AGG", true));
+        config.registerFunction(new JpqlFunctionGroup("JSON_OBJECT_AGG_FILTER", true));
+        config.registerFunction(new JpqlFunctionGroup("JSON_AGG_ORDER_ASC", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_AGG_ORDER_ASC_NULLS_FIRST", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_AGG_ORDER_ASC_NULLS_LAST", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_AGG_ORDER_DESC", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_AGG_ORDER_DESC_NULLS_FIRST", false));
+        config.registerFunction(new JpqlFunctionGroup("JSON_AGG_ORDER_DESC_NULLS_LAST", false));
     }
 
 }
@@ -4,6 +4,7 @@ import org.hibernate.boot.MetadataBuilder;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.spi.MetadataBuilderInitializer;
 import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.BooleanType;
 import org.hibernate.type.DateType;
 import org.hibernate.type.StringType;
 
@@ -13,6 +14,8 @@ public class CommonFunctionInitializer implements MetadataBuilderInitializer {
     public void contribute(MetadataBuilder metadataBuilder, StandardServiceRegistry standardServiceRegistry) {
         metadataBuilder.applySqlFunction("AS_TEXT", new SQLFunctionTemplate(StringType.INSTANCE, "?1::TEXT"));
         metadataBuilder.applySqlFunction("date", new SQLFunctionTemplate(DateType.INSTANCE, "date(?1)"));
+        metadataBuilder.applySqlFunction("IN_ARRAY", new SQLFunctionTemplate(BooleanType.INSTANCE, "?1 = ANY(?2)"));
+        metadataBuilder.applySqlFunction("NOT_IN_ARRAY", new SQLFunctionTemplate(BooleanType.INSTANCE, "?1 <> ALL(?2)"));
     }
 
 }
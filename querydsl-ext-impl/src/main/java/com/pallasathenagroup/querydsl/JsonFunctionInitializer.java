@@ -3,6 +3,7 @@ package com.pallasathenagroup.querydsl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.pallasathenagroup.querydsl.json.RawJsonType;
 import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
 import org.hibernate.boot.MetadataBuilder;
 import org.hibernate.boot.registry.StandardServiceRegistry;
@@ -22,6 +23,16 @@ public class JsonFunctionInitializer implements MetadataBuilderInitializer {
     @Override
     public void contribute(MetadataBuilder metadataBuilder, StandardServiceRegistry standardServiceRegistry) {
         metadataBuilder.applySqlFunction("JSON_CONTAINS_KEY", new SQLFunctionTemplate(BooleanType.INSTANCE, "?1->?2 IS NOT NULL"));
+        // Note: First ? is a JDBC escape here, the native operators can be answered from a GIN index.
+        metadataBuilder.applySqlFunction("JSON_HAS_KEY", new Operator(BooleanType.INSTANCE, " ?? "));
+        metadataBuilder.applySqlFunction("JSON_CONTAINS_ANY_KEY", new Operator(BooleanType.INSTANCE, " ??| "));
+        metadataBuilder.applySqlFunction("JSON_CONTAINS_ALL_KEYS", new Operator(BooleanType.INSTANCE, " ??& "));
+        metadataBuilder.applySqlFunction("JSON_PATH_EXISTS", new Operator(BooleanType.INSTANCE, " @?? ", "jsonpath"));
+        metadataBuilder.applySqlFunction("JSON_PATH_EXISTS_VARS", new SQLFunctionTemplate(BooleanType.INSTANCE, "jsonb_path_exists(?1, CAST(?2 AS jsonpath), ?3)"));
+        metadataBuilder.applySqlFunction("JSON_PATH_MATCH", new SQLFunctionTemplate(BooleanType.INSTANCE, "?1 @@ CAST(?2 AS jsonpath)"));
+        metadataBuilder.applySqlFunction("JSON_PATH_MATCH_VARS", new SQLFunctionTemplate(BooleanType.INSTANCE, "jsonb_path_match(?1, CAST(?2 AS jsonpath), ?3)"));
+        metadataBuilder.applySqlFunction("JSON_PATH_QUERY_FIRST", new SQLFunctionTemplate(JSON_NODE_TYPE, "jsonb_path_query_first(?1, CAST(?2 AS jsonpath))"));
+        metadataBuilder.applySqlFunction("JSON_PATH_QUERY_FIRST_VARS", new SQLFunctionTemplate(JSON_NODE_TYPE, "jsonb_path_query_first(?1, CAST(?2 AS jsonpath), ?3)"));
         metadataBuilder.applySqlFunction("JSON_CONTAINS", new SQLFunctionTemplate(BooleanType.INSTANCE, "(?1 @> ?2)"));
         metadataBuilder.applySqlFunction("JSON_GET", new SQLFunctionTemplate(JSON_NODE_TYPE, "(?1#>?2)"));
         metadataBuilder.applySqlFunction("JSON_GET_TEXT", new SQLFunctionTemplate(StringType.INSTANCE, "?1#>>?2"));
@@ -29,6 +40,17 @@ public class JsonFunctionInitializer implements MetadataBuilderInitializer {
         metadataBuilder.applySqlFunction("JSON_DELETE_KEY", new SQLFunctionTemplate(JSON_NODE_TYPE, "?1 - ?2"));
         metadataBuilder.applySqlFunction("JSON_DELETE_INDEX", new SQLFunctionTemplate(ARRAY_NODE_TYPE, "?1 - ?2"));
         metadataBuilder.applySqlFunction("JSON_DELETE_PATH", new SQLFunctionTemplate(JSON_NODE_TYPE, "?1 #- ?2"));
+        metadataBuilder.applySqlFunction("RAW_JSON", new SQLFunctionTemplate(RawJsonType.INSTANCE, "?1"));
+        metadataBuilder.applySqlFunction("JSON_AGG", new AggregateFunction(ARRAY_NODE_TYPE, "jsonb_agg", 1, false));
+        metadataBuilder.applySqlFunction("JSON_AGG_FILTER", new AggregateFunction(ARRAY_NODE_TYPE, "jsonb_agg", 1, true));
+        metadataBuilder.applySqlFunction("JSON_OBJECT_AGG", new AggregateFunction(OBJECT_NODE_TYPE, "jsonb_object_agg", 2, false));
+        metadataBuilder.applySqlFunction("JSON_OBJECT_AGG_FILTER", new AggregateFunction(OBJECT_NODE_TYPE, "jsonb_object_agg", 2, true));
+        metadataBuilder.applySqlFunction("JSON_AGG_ORDER_ASC", new AggregateFunction.OrderFunction("ASC"));
+        metadataBuilder.applySqlFunction("JSON_AGG_ORDER_ASC_NULLS_FIRST", new AggregateFunction.OrderFunction("ASC NULLS FIRST"));
+        metadataBuilder.applySqlFunction("JSON_AGG_ORDER_ASC_NULLS_LAST", new AggregateFunction.OrderFunction("ASC NULLS LAST"));
+        metadataBuilder.applySqlFunction("JSON_AGG_ORDER_DESC", new AggregateFunction.OrderFunction("DESC"));
+        metadataBuilder.applySqlFunction("JSON_AGG_ORDER_DESC_NULLS_FIRST", new AggregateFunction.OrderFunction("DESC NULLS FIRST"));
+        metadataBuilder.applySqlFunction("JSON_AGG_ORDER_DESC_NULLS_LAST", new AggregateFunction.OrderFunction("DESC NULLS LAST"));
 
         metadataBuilder.applySqlFunction("jsonb_typeof", new StandardSQLFunction("jsonb_typeof", StringType.INSTANCE));
         metadataBuilder.applySqlFunction("json_array_length", new StandardSQLFunction("json_array_length", IntegerType.INSTANCE));
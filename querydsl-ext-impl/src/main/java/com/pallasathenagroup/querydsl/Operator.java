@@ -8,14 +8,24 @@ import org.hibernate.type.Type;
 
 import java.util.List;
 
+/**
+ * A binary operator, unlike a {@code SQLFunctionTemplate} the operator may contain the {@code ??} JDBC escape of
+ * {@code ?}. The right operand may be cast to a sql type that isn't a hibernate type, {@code ?1 @?? CAST(?2 AS jsonpath)}.
+ */
 public class Operator implements SQLFunction {
 
     private final Type returnType;
     private final String operator;
+    private final String rightOperandType;
 
     public Operator(Type returnType, String operator) {
+        this(returnType, operator, null);
+    }
+
+    public Operator(Type returnType, String operator, String rightOperandType) {
         this.returnType = returnType;
         this.operator = operator;
+        this.rightOperandType = rightOperandType;
     }
 
     @Override
@@ -35,7 +45,13 @@ public class Operator implements SQLFunction {
 
     @Override
     public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory) throws QueryException {
-        return String.join(operator, arguments);
+        if (rightOperandType == null) {
+            return String.join(operator, arguments);
+        }
+        if (arguments.size() != 2) {
+            throw new QueryException("The operator '" + operator.trim() + "' requires 2 arguments");
+        }
+        return arguments.get(0) + operator + "CAST(" + arguments.get(1) + " AS " + rightOperandType + ")";
     }
 
 }
@@ -4,10 +4,12 @@ import com.google.common.collect.Lists;
 import com.pallasathenagroup.querydsl.ArrayEntity.SensorState;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.Param;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAUpdateClause;
 import com.vladmihalcea.hibernate.type.array.ListArrayType;
 import com.vladmihalcea.hibernate.type.array.internal.AbstractArrayType;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Arrays;
@@ -119,6 +121,45 @@ public class ArrayEntityPathTest extends BaseTestContainersTest {
         });
     }
 
+    @Test
+    public void inArray() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<Tuple> fetch = new JPAQuery<>(entityManager)
+                    .from(arrayEntity)
+                    .select(
+                            HibernateTypesExpressions.inArray(arrayEntity.id, List.of(2L, 3L)),
+                            HibernateTypesExpressions.notInArray(arrayEntity.id, List.of(2L, 3L)),
+                            HibernateTypesExpressions.inArray(arrayEntity.sensorStates.get(0), "sensor_state", List.of(SensorState.ONLINE)),
+                            HibernateTypesExpressions.notInArray(arrayEntity.sensorStates.get(0), "sensor_state", List.of(SensorState.ONLINE))
+                    )
+                    .where(HibernateTypesExpressions.inArray(arrayEntity.id, List.of(1L, 2L, 3L)))
+                    .fetch();
+
+            Tuple tuple = fetch.get(0);
+            assertEquals(false, tuple.get(0, Object.class));
+            assertEquals(true, tuple.get(1, Object.class));
+            assertEquals(true, tuple.get(2, Object.class));
+            assertEquals(false, tuple.get(3, Object.class));
+
+            // the query string does not depend on the number of values
+            assertEquals(
+                    new JPAQuery<>(entityManager).from(arrayEntity)
+                            .where(HibernateTypesExpressions.inArray(arrayEntity.id, List.of(1L))).toString(),
+                    new JPAQuery<>(entityManager).from(arrayEntity)
+                            .where(HibernateTypesExpressions.inArray(arrayEntity.id, List.of(1L, 2L, 3L))).toString());
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void inArrayRequiresEnumType() {
+        HibernateTypesExpressions.inArray(arrayEntity.sensorStates.get(0), List.of(SensorState.ONLINE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void inArrayRequiresArrayType() {
+        HibernateTypesExpressions.inArray(Expressions.numberPath(BigDecimal.class, "amount"), List.of(BigDecimal.ONE));
+    }
+
     @Test
     public void updateByExpression() {
         doInJPA(this::sessionFactory, entityManager -> {
@@ -194,4 +235,124 @@ public class ArrayEntityPathTest extends BaseTestContainersTest {
             assertTrue(List.of("test").equals(entity.sensorNameStr));
         });
     }
+
+    @Test
+    public void updateByPreparedUpdate() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            Param<String[]> sensorNames = new Param<>(String[].class, "sensorNames");
+            Param<List> sensorNameStr = new Param<>(List.class, "sensorNameStr");
+            Param<Long> id = new Param<>(Long.class, "id");
+
+            PreparedUpdate update = new ExtendJpaUpdateClause(entityManager, arrayEntity)
+                    .set(arrayEntity.sensorNames, sensorNames)
+                    .setRaw(arrayEntity.sensorNameStr, sensorNameStr)
+                    .where(arrayEntity.id.eq(id))
+                    .prepare();
+
+            assertEquals(1, update.bind(id, 1L)
+                    .bind(sensorNames, new String[] {"Humidity"})
+                    .bind(sensorNameStr, List.of("a"))
+                    .execute(entityManager));
+            assertEquals(1, update.bind(sensorNames, new String[] {"Temperature", "Humidity"})
+                    .bind(sensorNameStr, List.of("b", "c"))
+                    .execute(entityManager));
+            assertEquals(0, update.bind(id, 2L).execute(entityManager));
+
+            ArrayEntity entity = new JPAQuery<ArrayEntity>(entityManager)
+                    .from(arrayEntity)
+                    .fetchOne();
+            assertArrayEquals(new String[] {"Temperature", "Humidity"}, entity.sensorNames);
+            assertEquals(List.of("b", "c"), entity.sensorNameStr);
+        });
+    }
+
+    @Test
+    public void batchUpdate() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            ArrayEntity other = new ArrayEntity();
+            other.setId(2L);
+            entityManager.persist(other);
+            entityManager.flush();
+
+            long result = new ExtendJpaBatchUpdateClause(entityManager, arrayEntity, arrayEntity.id)
+                    .set(arrayEntity.sensorNames, arrayEntity.sensorStates, arrayEntity.sensorNameStr)
+                    .addRow(1L, new String[] {"Humidity"}, new SensorState[] {SensorState.OFFLINE}, List.of("a"))
+                    .addRow(2L, new String[] {"Temperature", "Pressure"}, null, List.of("b", "c"))
+                    .addRow(3L, new String[] {"Missing"}, null, null)
+                    .batchSize(2)
+                    .execute();
+
+            assertEquals(2, result);
+            entityManager.clear();
+
+            ArrayEntity first = entityManager.find(ArrayEntity.class, 1L);
+            assertArrayEquals(new String[] {"Humidity"}, first.getSensorNames());
+            assertArrayEquals(new SensorState[] {SensorState.OFFLINE}, first.getSensorStates());
+            assertEquals(List.of("a"), first.sensorNameStr);
+
+            ArrayEntity second = entityManager.find(ArrayEntity.class, 2L);
+            assertArrayEquals(new String[] {"Temperature", "Pressure"}, second.getSensorNames());
+            assertEquals(null, second.getSensorStates());
+            assertEquals(List.of("b", "c"), second.sensorNameStr);
+        });
+    }
+
+    @Test
+    public void batchUpdateColumnType() {
+        assertEquals("sensor_state[]", ExtendJpaBatchUpdateClause.getColumnType("sensor_state[]"));
+        assertEquals("varchar(20)", ExtendJpaBatchUpdateClause.getColumnType("varchar(20) not null default ''"));
+        assertEquals("timestamp with time zone", ExtendJpaBatchUpdateClause.getColumnType("timestamp with time zone UNIQUE"));
+        assertEquals("double precision", ExtendJpaBatchUpdateClause.getColumnType(" double precision "));
+    }
+
+    @Test
+    public void updateBatch() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            ArrayEntity other = new ArrayEntity();
+            other.setId(2L);
+            entityManager.persist(other);
+
+            int[] result = new UpdateBatch(entityManager)
+                    .add(new ExtendJpaUpdateClause(entityManager, arrayEntity)
+                            .set(arrayEntity.sensorNames, new String[] {"Humidity"})
+                            .where(arrayEntity.id.eq(1L)))
+                    .add(new ExtendJpaUpdateClause(entityManager, arrayEntity)
+                            .set(arrayEntity.sensorNameStr, List.of("a"))
+                            .where(arrayEntity.id.eq(1L)))
+                    .add(new ExtendJpaUpdateClause(entityManager, arrayEntity)
+                            .set(arrayEntity.sensorNames, new String[] {"Temperature", "Pressure"})
+                            .where(arrayEntity.id.eq(2L)))
+                    .add(new ExtendJpaUpdateClause(entityManager, arrayEntity)
+                            .set(arrayEntity.sensorNames, new String[] {"Missing"})
+                            .where(arrayEntity.id.eq(3L)))
+                    .maxBatchSize(2)
+                    .execute();
+
+            assertArrayEquals(new int[] {1, 1, 1, 0}, result);
+            entityManager.clear();
+
+            ArrayEntity first = entityManager.find(ArrayEntity.class, 1L);
+            assertArrayEquals(new String[] {"Humidity"}, first.getSensorNames());
+            assertEquals(List.of("a"), first.sensorNameStr);
+
+            ArrayEntity second = entityManager.find(ArrayEntity.class, 2L);
+            assertArrayEquals(new String[] {"Temperature", "Pressure"}, second.getSensorNames());
+        });
+    }
+
+    @Test
+    public void deleteReturning() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<Tuple> result = new ExtendJpaDeleteClause(entityManager, arrayEntity)
+                    .where(arrayEntity.id.eq(1L))
+                    .executeReturning(arrayEntity.sensorNames, arrayEntity.sensorStates);
+
+            assertEquals(1, result.size());
+            assertArrayEquals(new String[] {"Temperature", "Pressure"}, result.get(0).get(arrayEntity.sensorNames));
+            assertArrayEquals(new SensorState[] {SensorState.ONLINE, SensorState.OFFLINE, SensorState.ONLINE, SensorState.UNKNOWN},
+                    result.get(0).get(arrayEntity.sensorStates));
+            assertEquals(0, new ExtendJpaDeleteClause(entityManager, arrayEntity).execute());
+        });
+    }
+
 }
@@ -23,6 +23,7 @@ public abstract class BaseTestContainersTest {
 
     static final PostgreSQLContainer POSTGRE_SQL_CONTAINER;
     static EntityManagerFactory _emf;
+    static List<Class<?>> _emfClasses;
 
     static {
 
@@ -45,6 +46,12 @@ public abstract class BaseTestContainersTest {
 
     public Supplier<EntityManagerFactory> buildEmf() {
         return () -> {
+            Class<?>[] classes = this.getAnnotatedClasses();
+            // test classes share the factory, it is rebuilt for the entities of another test class
+            if (_emf != null && !_emfClasses.equals(Arrays.asList(classes))) {
+                _emf.close();
+                _emf = null;
+            }
             if (_emf == null) {
                 Properties properties = new Properties();
                 properties.setProperty(Environment.DIALECT, "org.hibernate.dialect.PostgreSQL95Dialect");
@@ -72,8 +79,6 @@ public abstract class BaseTestContainersTest {
                         .logQueryBySlf4j(SLF4JLogLevel.INFO)
                         .build();
 
-                Class<?>[] classes = this.getAnnotatedClasses();
-
                 PersistenceUnitInfo persistenceUnitInfo = new MyPersistenceUnitInfo(classes, properties);
 
                 Map<String, Object> configuration = new HashMap<>();
@@ -82,6 +87,7 @@ public abstract class BaseTestContainersTest {
                         new PersistenceUnitInfoDescriptor(persistenceUnitInfo), configuration)
                         .withDataSource(dataSource)
                         .build();
+                _emfClasses = Arrays.asList(classes);
             }
 
             return _emf;
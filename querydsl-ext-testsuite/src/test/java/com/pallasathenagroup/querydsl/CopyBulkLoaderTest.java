@@ -0,0 +1,68 @@
+package com.pallasathenagroup.querydsl;
+
+import com.google.common.collect.Lists;
+import com.pallasathenagroup.querydsl.ArrayEntity.SensorState;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CopyBulkLoaderTest extends BaseTestContainersTest {
+
+    @Override
+    protected Class<?>[] getAnnotatedClasses() {
+        return new Class<?>[] { ArrayEntity.class };
+    }
+
+    @Before
+    public void setUp() {
+        doInJPA(this.buildEmf(), entityManager -> {
+            entityManager.createQuery("delete from ArrayEntity j").executeUpdate();
+
+            ArrayEntity arrayEntity = new ArrayEntity();
+            arrayEntity.setId(1L);
+            arrayEntity.setSensorNames(new String[]{"Temperature", "Pressure"});
+            arrayEntity.setSensorValues(new int[]{12, 756});
+            entityManager.persist(arrayEntity);
+        });
+    }
+
+    @Test
+    public void copyBulkLoad() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<ArrayEntity> entities = Lists.newArrayList();
+            for (long id = 2; id <= 6; id++) {
+                ArrayEntity entity = new ArrayEntity();
+                entity.setId(id);
+                entity.setSensorNames(new String[] {"Sensor \"" + id + "\"", null, "tab\tand\nnewline"});
+                entity.setSensorNameStr(List.of("a", "b"));
+                entity.setSensorValues(new int[] {(int) id});
+                entity.setSensorStates(new SensorState[] {SensorState.ONLINE, SensorState.UNKNOWN});
+                entities.add(entity);
+            }
+
+            long result = new CopyBulkLoader<>(entityManager, arrayEntity)
+                    .column(arrayEntity.id, ArrayEntity::getId)
+                    .column(arrayEntity.sensorNames, ArrayEntity::getSensorNames)
+                    .column(arrayEntity.sensorNameStr, ArrayEntity::getSensorNameStr)
+                    .column(arrayEntity.sensorValues, ArrayEntity::getSensorValues)
+                    .column(arrayEntity.sensorStates, ArrayEntity::getSensorStates)
+                    .bufferSize(64)
+                    .flushSize(2)
+                    .load(entities);
+
+            assertEquals(5, result);
+
+            ArrayEntity entity = entityManager.find(ArrayEntity.class, 4L);
+            assertArrayEquals(new String[] {"Sensor \"4\"", null, "tab\tand\nnewline"}, entity.getSensorNames());
+            assertEquals(List.of("a", "b"), entity.getSensorNameStr());
+            assertArrayEquals(new int[] {4}, entity.getSensorValues());
+            assertArrayEquals(new SensorState[] {SensorState.ONLINE, SensorState.UNKNOWN}, entity.getSensorStates());
+        });
+    }
+
+}
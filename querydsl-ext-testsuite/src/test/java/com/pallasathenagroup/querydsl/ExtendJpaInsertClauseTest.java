@@ -0,0 +1,153 @@
+package com.pallasathenagroup.querydsl;
+
+import com.pallasathenagroup.querydsl.ArrayEntity.SensorState;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+import static com.pallasathenagroup.querydsl.QHstoreEntity.hstoreEntity;
+import static com.pallasathenagroup.querydsl.QJsonNodeEntity.jsonNodeEntity;
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ExtendJpaInsertClauseTest extends BaseTestContainersTest {
+
+    @Override
+    protected Class<?>[] getAnnotatedClasses() {
+        return new Class<?>[] { ArrayEntity.class, JsonNodeEntity.class, HstoreEntity.class };
+    }
+
+    @Before
+    public void setUp() {
+        doInJPA(this.buildEmf(), entityManager -> {
+            entityManager.createQuery("delete from ArrayEntity j").executeUpdate();
+            entityManager.createQuery("delete from JsonNodeEntity j").executeUpdate();
+            entityManager.createQuery("delete from HstoreEntity j").executeUpdate();
+
+            ArrayEntity arrayEntity = new ArrayEntity();
+            arrayEntity.setId(1L);
+            arrayEntity.setSensorNames(new String[]{"Temperature", "Pressure"});
+            arrayEntity.setSensorValues(new int[]{12, 756});
+            entityManager.persist(arrayEntity);
+        });
+    }
+
+    @Test
+    public void insertOnConflict() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            long inserted = new ExtendJpaInsertClause(entityManager, arrayEntity)
+                    .set(arrayEntity.id, 2L)
+                    .set(arrayEntity.sensorNames, new String[] {"Humidity"})
+                    .set(arrayEntity.sensorStates, new SensorState[] {SensorState.ONLINE})
+                    .onConflict(arrayEntity.id)
+                    .doNothing()
+                    .execute();
+            assertEquals(1, inserted);
+
+            long ignored = new ExtendJpaInsertClause(entityManager, arrayEntity)
+                    .set(arrayEntity.id, 2L)
+                    .set(arrayEntity.sensorNames, new String[] {"Ignored"})
+                    .onConflict(arrayEntity.id)
+                    .doNothing()
+                    .execute();
+            assertEquals(0, ignored);
+
+            long updated = new ExtendJpaInsertClause(entityManager, arrayEntity)
+                    .set(arrayEntity.id, 1L)
+                    .set(arrayEntity.sensorNames, new String[] {"Humidity"})
+                    .set(arrayEntity.sensorValues, new int[] {1})
+                    .onConflict(arrayEntity.id)
+                    .doUpdate(arrayEntity.sensorNames, arrayEntity.sensorNames.append("Humidity"))
+                    .doUpdateExcluded(arrayEntity.sensorValues)
+                    .execute();
+            assertEquals(1, updated);
+
+            entityManager.clear();
+            ArrayEntity first = entityManager.find(ArrayEntity.class, 1L);
+            assertArrayEquals(new String[] {"Temperature", "Pressure", "Humidity"}, first.getSensorNames());
+            assertArrayEquals(new int[] {1}, first.getSensorValues());
+
+            ArrayEntity second = entityManager.find(ArrayEntity.class, 2L);
+            assertArrayEquals(new String[] {"Humidity"}, second.getSensorNames());
+            assertArrayEquals(new SensorState[] {SensorState.ONLINE}, second.getSensorStates());
+        });
+    }
+
+    @Test
+    public void insertOnConflictJsonb() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            new ExtendJpaInsertClause(entityManager, jsonNodeEntity)
+                    .set(jsonNodeEntity.id, 1L)
+                    .set(jsonNodeEntity.listInt, List.of(1))
+                    .set(jsonNodeEntity.map, Map.of("a", 1, "b", 1))
+                    .execute();
+
+            // the expressions refer to the existing row, not to the row proposed for insertion
+            long updated = new ExtendJpaInsertClause(entityManager, jsonNodeEntity)
+                    .set(jsonNodeEntity.id, 1L)
+                    .set(jsonNodeEntity.listInt, List.of(3))
+                    .set(jsonNodeEntity.map, Map.of("c", 3))
+                    .onConflict(jsonNodeEntity.id)
+                    .doUpdate(jsonNodeEntity.listInt, jsonNodeEntity.listInt.concat(2))
+                    .doUpdate(jsonNodeEntity.map, "a", 2)
+                    .execute();
+            assertEquals(1, updated);
+
+            entityManager.clear();
+            JsonNodeEntity entity = entityManager.find(JsonNodeEntity.class, 1L);
+            assertEquals(List.of(1, 2), entity.listInt);
+            assertEquals(Map.of("a", 2, "b", 1), entity.map);
+        });
+    }
+
+    @Test
+    public void insertOnConflictJsonbAndExcluded() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            new ExtendJpaInsertClause(entityManager, jsonNodeEntity)
+                    .set(jsonNodeEntity.id, 1L)
+                    .set(jsonNodeEntity.listInt, List.of(1))
+                    .set(jsonNodeEntity.intNumber, 1)
+                    .execute();
+
+            long updated = new ExtendJpaInsertClause(entityManager, jsonNodeEntity)
+                    .set(jsonNodeEntity.id, 1L)
+                    .set(jsonNodeEntity.listInt, List.of(3))
+                    .set(jsonNodeEntity.intNumber, 3)
+                    .onConflict(jsonNodeEntity.id)
+                    .doUpdate(jsonNodeEntity.listInt, jsonNodeEntity.listInt.concat(jsonNodeEntity.listInt))
+                    .doUpdateExcluded(jsonNodeEntity.intNumber)
+                    .execute();
+            assertEquals(1, updated);
+
+            entityManager.clear();
+            JsonNodeEntity entity = entityManager.find(JsonNodeEntity.class, 1L);
+            assertEquals(List.of(1, 1), entity.listInt);
+            assertEquals(Integer.valueOf(3), entity.intNumber);
+        });
+    }
+
+    @Test
+    public void insertOnConflictHstore() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            new ExtendJpaInsertClause(entityManager, hstoreEntity)
+                    .set(hstoreEntity.id, 1L)
+                    .set(hstoreEntity.hstore, Map.of("a", "b"))
+                    .execute();
+
+            long updated = new ExtendJpaInsertClause(entityManager, hstoreEntity)
+                    .set(hstoreEntity.id, 1L)
+                    .set(hstoreEntity.hstore, Map.of("a", "excluded"))
+                    .onConflict(hstoreEntity.id)
+                    .doUpdate(hstoreEntity.hstore, hstoreEntity.hstore.concat(Map.of("c", "d")))
+                    .execute();
+            assertEquals(1, updated);
+
+            entityManager.clear();
+            assertEquals(Map.of("a", "b", "c", "d"), entityManager.find(HstoreEntity.class, 1L).hstore);
+        });
+    }
+
+}
@@ -13,24 +13,41 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.pallasathenagroup.querydsl.json.JsonContainmentRewriter;
 import com.pallasathenagroup.querydsl.json.JsonExpressions;
+import com.pallasathenagroup.querydsl.json.JsonMappers;
+import com.pallasathenagroup.querydsl.json.JsonOps;
 import com.pallasathenagroup.querydsl.json.JsonPath;
+import com.pallasathenagroup.querydsl.json.RawJson;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.hibernate.jpa.TypedParameterValue;
 import org.junit.Before;
 import org.junit.Test;
 
 import static com.pallasathenagroup.querydsl.QJsonNodeEntity.jsonNodeEntity;
 import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class JsonNodePathTest extends BaseTestContainersTest {
 
@@ -257,6 +274,67 @@ public class JsonNodePathTest extends BaseTestContainersTest {
         });
     }
 
+    @Test
+    public void containsKeys() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<Tuple> result = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(
+                            jsonNodeEntity.jsonNode.containsKey("a"),
+                            jsonNodeEntity.jsonNode.containsKey("d"),
+                            jsonNodeEntity.jsonNode.containsAnyKey("a", "d"),
+                            jsonNodeEntity.jsonNode.containsAnyKey("d", "e"),
+                            jsonNodeEntity.jsonNode.containsAllKeys("a", "b"),
+                            jsonNodeEntity.jsonNode.containsAllKeys("a", "d"),
+                            jsonNodeEntity.jsonNode.hasKey("a"),
+                            jsonNodeEntity.jsonNode.hasKey("d"),
+                            jsonNodeEntity.jsonNode2.containsKey("a"),
+                            jsonNodeEntity.jsonNode2.hasKey("a")
+                    )
+                    .where(jsonNodeEntity.jsonNode.containsAnyKey("a", "d"))
+                    .fetch();
+
+            Tuple tuple = result.get(0);
+            assertEquals(true, tuple.get(0, Object.class));
+            assertEquals(false, tuple.get(1, Object.class));
+            assertEquals(true, tuple.get(2, Object.class));
+            assertEquals(false, tuple.get(3, Object.class));
+            assertEquals(true, tuple.get(4, Object.class));
+            assertEquals(false, tuple.get(5, Object.class));
+            assertEquals(true, tuple.get(6, Object.class));
+            assertEquals(false, tuple.get(7, Object.class));
+            // ? also matches the string elements of an array
+            assertEquals(false, tuple.get(8, Object.class));
+            assertEquals(true, tuple.get(9, Object.class));
+        });
+    }
+
+    @Test
+    public void jsonPath() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<Tuple> result = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(
+                            jsonNodeEntity.embed1List.jsonPathExists("$[*] ? (@.embed1_int == 1)"),
+                            jsonNodeEntity.embed1List.jsonPathExists("$[*] ? (@.embed1_int == $value)", Map.of("value", 2)),
+                            jsonNodeEntity.embed1.jsonPathMatch("$.embed1_int == 1"),
+                            jsonNodeEntity.embed1.jsonPathMatch("$.embed1_int > $value", Map.of("value", 1)),
+                            jsonNodeEntity.embed1.jsonPathQuery("$.embed1_attr2.embed2_attr1"),
+                            jsonNodeEntity.embed1List.jsonPathQuery("$[*] ? (@.embed1_int == $value).embed1_intList[0]", Map.of("value", 1))
+                    )
+                    .where(jsonNodeEntity.embed1List.jsonPathExists("$[*] ? (@.embed1_attr1 == \"embed1_attr1\")"))
+                    .fetch();
+
+            Tuple tuple = result.get(0);
+            assertEquals(true, tuple.get(0, Object.class));
+            assertEquals(false, tuple.get(1, Object.class));
+            assertEquals(true, tuple.get(2, Object.class));
+            assertEquals(false, tuple.get(3, Object.class));
+            assertEquals("embed2_attr1", tuple.get(4, JsonNode.class).asText());
+            assertEquals(1, tuple.get(5, JsonNode.class).asInt());
+        });
+    }
+
     @Test
     public void concat() {
         doInJPA(this::sessionFactory, entityManager -> {
@@ -557,8 +635,45 @@ public class JsonNodePathTest extends BaseTestContainersTest {
 //            assertEquals("value_via_update", entity.embed1.embed1_attr1);
 //            assertEquals("value_via_update", entity.embed1.embed1_attr2.embed2_attr1);
             assertEquals(Lists.newArrayList(1, 2, 3, 4, 5), entity.embed1.embed1_intList);
+        });
+    }
+
+    @Test
+    public void updateMultipleKeys() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            ExtendJpaUpdateClause updateClause = new ExtendJpaUpdateClause(entityManager, jsonNodeEntity)
+                    .set(jsonNodeEntity.embed1, "embed1_int", 100)
+                    .set(jsonNodeEntity.embed1, "embed1_attr1", "value_via_update")
+                    .set(jsonNodeEntity.embed1, "embed1_attr2.embed2_attr1", "value_via_update")
+                    .set(jsonNodeEntity.map, "a", 1);
+
+            long result = updateClause.execute();
+
+            assertEquals(1, result);
+
+            JsonNodeEntity entity = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(QJsonNodeEntity.jsonNodeEntity)
+                    .fetchOne();
+            assertEquals(100, entity.embed1.embed1_int.longValue());
+            assertEquals("value_via_update", entity.embed1.embed1_attr1);
+            assertEquals("value_via_update", entity.embed1.embed1_attr2.embed2_attr1);
+            assertEquals(1, ((Number) entity.map.get("a")).intValue());
+        });
+    }
 
-            // TODO update multiple field of json field
+    @Test
+    public void updateReturning() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<Tuple> result = new ExtendJpaUpdateClause(entityManager, jsonNodeEntity)
+                    .set(jsonNodeEntity.embed1, "embed1_int", 100)
+                    .where(jsonNodeEntity.id.eq(entity.id))
+                    .executeReturning(jsonNodeEntity.id, jsonNodeEntity.embed1, jsonNodeEntity.listInt);
+
+            assertEquals(1, result.size());
+            assertEquals(entity.id, result.get(0).get(jsonNodeEntity.id));
+            assertEquals(100, result.get(0).get(jsonNodeEntity.embed1).embed1_int.intValue());
+            assertEquals("embed1_attr1", result.get(0).get(jsonNodeEntity.embed1).embed1_attr1);
+            assertEquals(List.of(1, 2, 3, 4), result.get(0).get(jsonNodeEntity.listInt));
         });
     }
 
@@ -671,4 +786,261 @@ public class JsonNodePathTest extends BaseTestContainersTest {
         });
     }
 
+    @Test
+    public void rawJson() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            Tuple result = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(
+                            jsonNodeEntity.jsonNode.asRawJson(),
+                            JsonExpressions.buildJsonObject(jsonNodeEntity.id.as("id")).asRawJson()
+                    )
+                    .fetchOne();
+
+            try {
+                RawJson document = result.get(0, RawJson.class);
+                assertEquals(entity.jsonNode, objectMapper.readTree(document.toString()));
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                document.writeTo(outputStream);
+                assertEquals(document.toString(), outputStream.toString(StandardCharsets.UTF_8));
+
+                RawJson object = result.get(1, RawJson.class);
+                assertEquals("{\"doc\":" + object + "}", objectMapper.writeValueAsString(ImmutableMap.of("doc", object)));
+                assertEquals(entity.id.intValue(), objectMapper.readTree(object.toString()).get("id").intValue());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    public void projectJson() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            Tuple result = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(
+                            jsonNodeEntity.embed1.as(JsonNodeEntity.Embed1.class),
+                            jsonNodeEntity.embed1.get("embed1_attr2").as(JsonNodeEntity.Embed2.class),
+                            JsonExpressions.project(new TypeReference<List<Integer>>() {}, jsonNodeEntity.listInt),
+                            jsonNodeEntity.null_1.get("test").as(JsonNodeEntity.Embed2.class)
+                    )
+                    .fetchOne();
+
+            JsonNodeEntity.Embed1 embed1 = result.get(0, JsonNodeEntity.Embed1.class);
+            assertEquals("embed1_attr1", embed1.getEmbed1_attr1());
+            assertEquals(List.of(1, 2, 3), embed1.getEmbed1_intList());
+            assertEquals("embed2_attr1", embed1.getEmbed1_attr2().getEmbed2_attr1());
+            assertEquals("embed2_attr1", result.get(1, JsonNodeEntity.Embed2.class).getEmbed2_attr1());
+            assertEquals(List.of(1, 2, 3, 4), result.get(2, List.class));
+            assertNull(result.get(3, JsonNodeEntity.Embed2.class));
+        });
+    }
+
+    @Test
+    public void updateByCachedConstant() {
+        Map<String, Object> defaults = Map.of("theme", "dark", "size", 10);
+        RawJson json = JsonMappers.cached(defaults);
+        assertSame(json, JsonMappers.cached(defaults));
+
+        doInJPA(this::sessionFactory, entityManager -> {
+            long result = new ExtendJpaUpdateClause(entityManager, jsonNodeEntity)
+                    .set(jsonNodeEntity.map, "settings", json)
+                    .execute();
+
+            assertEquals(1, result);
+
+            JsonNode settings = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(jsonNodeEntity.map.get("settings"))
+                    .fetchOne();
+            assertEquals("dark", settings.get("theme").textValue());
+            assertEquals(10, settings.get("size").intValue());
+        });
+    }
+
+    @Test
+    public void typedJsonPath() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            QJsonNodeEntity_Embed1Json embed1 = jsonNodeEntity.embed1Json;
+            Tuple result = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(
+                            embed1.embed1_attr2.embed2_attr1,
+                            embed1.embed1_int.add(1),
+                            embed1.embed1_intList,
+                            embed1.embed1_attr2.as(JsonNodeEntity.Embed2.class)
+                    )
+                    .where(
+                            embed1.embed1_attr1.eq("embed1_attr1"),
+                            embed1.embed1_boolean.isTrue(),
+                            embed1.embed1_attr2.containsKey("embed2_attr1")
+                    )
+                    .fetchOne();
+
+            assertNotNull(result);
+            assertEquals("embed2_attr1", result.get(0, String.class));
+            assertEquals(Integer.valueOf(2), result.get(1, Integer.class));
+            assertEquals(3, result.get(2, JsonNode.class).size());
+            assertEquals("embed2_attr1", result.get(3, JsonNodeEntity.Embed2.class).getEmbed2_attr1());
+            assertArrayEquals(new String[] {"embed1_attr2"}, embed1.embed1_attr2.getKeys());
+        });
+    }
+
+    @Test
+    public void rewriteJsonContainment() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            QJsonNodeEntity_Embed1Json embed1 = jsonNodeEntity.embed1Json;
+            Predicate predicate = ExpressionUtils.allOf(
+                    embed1.embed1_attr1.eq("embed1_attr1"),
+                    embed1.embed1_int.eq(1),
+                    embed1.embed1_boolean.isTrue(),
+                    embed1.embed1_attr2.embed2_attr1.eq("embed2_attr1"),
+                    jsonNodeEntity.id.isNotNull()
+            );
+            Predicate rewritten = JsonContainmentRewriter.rewrite(predicate);
+
+            Operation<?> and = (Operation<?>) rewritten;
+            assertEquals(Ops.AND, and.getOperator());
+            Operation<?> containment = (Operation<?>) and.getArg(0);
+            assertEquals(JsonOps.CONTAINS, containment.getOperator());
+            assertEquals(
+                    "{\"embed1_attr1\":\"embed1_attr1\",\"embed1_int\":1,\"embed1_boolean\":true,\"embed1_attr2\":{\"embed2_attr1\":\"embed2_attr1\"}}",
+                    ((TypedParameterValue) ((Constant<?>) ExpressionUtils.extract(containment.getArg(1))).getConstant()).getValue().toString());
+
+            List<Long> expected = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(jsonNodeEntity.id)
+                    .where(predicate)
+                    .orderBy(jsonNodeEntity.id.asc())
+                    .fetch();
+            List<Long> result = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(jsonNodeEntity.id)
+                    .where(rewritten)
+                    .orderBy(jsonNodeEntity.id.asc())
+                    .fetch();
+
+            assertEquals(expected, result);
+            assertEquals(1, result.size());
+        });
+    }
+
+    @Test
+    public void rewriteJsonContainmentKeepsConflictingKeys() {
+        QJsonNodeEntity_Embed1Json embed1 = jsonNodeEntity.embed1Json;
+        Predicate predicate = ExpressionUtils.allOf(
+                embed1.embed1_attr1.eq("a"),
+                embed1.embed1_attr1.eq("b"),
+                jsonNodeEntity.embed1.get("embed1_intList", "0").asInteger().eq(1)
+        );
+        Predicate rewritten = JsonContainmentRewriter.rewrite(predicate);
+
+        // and(and(containment, conflicting key), array index)
+        Operation<?> and = (Operation<?>) rewritten;
+        Operation<?> folded = (Operation<?>) and.getArg(0);
+        assertEquals(JsonOps.CONTAINS, ((Operation<?>) folded.getArg(0)).getOperator());
+        assertEquals(Ops.EQ, ((Operation<?>) folded.getArg(1)).getOperator());
+        assertEquals(Ops.EQ, ((Operation<?>) and.getArg(1)).getOperator());
+    }
+
+    @Test
+    public void anyMatch() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            BooleanExpression equalities = jsonNodeEntity.embed1List.anyMatch(element -> element.get("embed1_attr1").asText().eq("embed1_attr1")
+                    .and(element.get("embed1_int").asInteger().eq(1)));
+            BooleanExpression comparisons = jsonNodeEntity.embed1List.anyMatch(element -> element.get("embed1_int").asInteger().gt(1)
+                    .or(element.get("embed1_boolean").asBoolean().not()));
+            BooleanExpression scalars = jsonNodeEntity.listInt.anyMatch(element -> element.asInteger().eq(4));
+
+            assertEquals(JsonOps.CONTAINS, ((Operation<?>) equalities).getOperator());
+            assertEquals(JsonOps.JSON_PATH_EXISTS, ((Operation<?>) comparisons).getOperator());
+            assertEquals(JsonOps.CONTAINS, ((Operation<?>) scalars).getOperator());
+
+            Tuple result = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(
+                            equalities,
+                            comparisons,
+                            jsonNodeEntity.embed1List.anyMatch(element -> element.get("embed1_intList", "0").asInteger().loe(1)),
+                            scalars
+                    )
+                    .where(equalities)
+                    .fetchOne();
+
+            assertNotNull(result);
+            assertEquals(true, result.get(0, Object.class));
+            assertEquals(false, result.get(1, Object.class));
+            assertEquals(true, result.get(2, Object.class));
+            assertEquals(true, result.get(3, Object.class));
+
+            // ["a", {"b":1}], the text of the scalar elements
+            Tuple texts = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(
+                            jsonNodeEntity.jsonNode2.anyMatch(element -> element.asText().eq("a")),
+                            jsonNodeEntity.jsonNode2.anyMatch(element -> element.asText().eq("b")),
+                            jsonNodeEntity.jsonNode2.anyMatch(element -> element.asText().gt("0"))
+                    )
+                    .fetchOne();
+
+            assertNotNull(texts);
+            assertEquals(true, texts.get(0, Object.class));
+            assertEquals(false, texts.get(1, Object.class));
+            assertEquals(true, texts.get(2, Object.class));
+        });
+    }
+
+    @Test
+    public void jsonAgg() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            JsonNodeEntity second = new JsonNodeEntity();
+            second.intNumber = 2;
+            second.embed1 = new JsonNodeEntity.Embed1();
+            second.embed1.embed1_attr1 = "second";
+            entityManager.persist(second);
+            entityManager.flush();
+
+            Tuple result = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(
+                            JsonExpressions.jsonAgg(jsonNodeEntity.intNumber).orderBy(jsonNodeEntity.intNumber.desc()),
+                            JsonExpressions.jsonAgg(jsonNodeEntity.intNumber).filter(jsonNodeEntity.intNumber.gt(1)),
+                            JsonExpressions.jsonObjectAgg(jsonNodeEntity.embed1.get("embed1_attr1").asText(), jsonNodeEntity.intNumber)
+                                    .orderBy(jsonNodeEntity.intNumber.asc()),
+                            JsonExpressions.jsonAgg(jsonNodeEntity.intNumber).filter(jsonNodeEntity.intNumber.gt(10)),
+                            JsonExpressions.jsonAgg(jsonNodeEntity.embed1.get("embed1_attr1").asText())
+                                    .orderBy(jsonNodeEntity.intNumber.desc())
+                                    .filter(jsonNodeEntity.intNumber.goe(1).and(jsonNodeEntity.embed1.get("embed1_attr1").asText().isNotNull())),
+                            JsonExpressions.jsonObjectAgg(jsonNodeEntity.embed1.get("embed1_attr1").asText(), jsonNodeEntity.intNumber)
+                                    .orderBy(jsonNodeEntity.intNumber.asc())
+                                    .filter(jsonNodeEntity.intNumber.lt(2))
+                    )
+                    .fetchOne();
+
+            assertNotNull(result);
+            assertEquals("[2,1]", result.get(0, JsonNode.class).toString());
+            assertEquals("[2]", result.get(1, JsonNode.class).toString());
+            assertEquals("{\"second\":2,\"embed1_attr1\":1}", result.get(2, JsonNode.class).toString());
+            assertNull(result.get(3, JsonNode.class));
+            assertEquals("[\"second\",\"embed1_attr1\"]", result.get(4, JsonNode.class).toString());
+            assertEquals("{\"embed1_attr1\":1}", result.get(5, JsonNode.class).toString());
+
+            // the children of each parent as one json value
+            QJsonNodeEntity child = new QJsonNodeEntity("child");
+            List<ArrayNode> children = new JPAQuery<JsonNodeEntity>(entityManager)
+                    .from(jsonNodeEntity)
+                    .select(JPAExpressions
+                            .select(JsonExpressions.jsonAgg(JsonExpressions.buildJsonObject(child.intNumber.as("n")))
+                                    .orderBy(child.intNumber.asc()))
+                            .from(child)
+                            .where(child.intNumber.loe(jsonNodeEntity.intNumber)))
+                    .orderBy(jsonNodeEntity.intNumber.asc())
+                    .fetch();
+
+            assertEquals("[{\"n\":1}]", children.get(0).toString());
+            assertEquals("[{\"n\":1},{\"n\":2}]", children.get(1).toString());
+        });
+    }
+
 }
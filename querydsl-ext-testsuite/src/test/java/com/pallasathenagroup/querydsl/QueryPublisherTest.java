@@ -0,0 +1,146 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class QueryPublisherTest extends BaseTestContainersTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @Override
+    protected Class<?>[] getAnnotatedClasses() {
+        return new Class<?>[] { ArrayEntity.class };
+    }
+
+    @Before
+    public void setUp() {
+        doInJPA(this.buildEmf(), entityManager -> {
+            entityManager.createQuery("delete from ArrayEntity j").executeUpdate();
+
+            for (long id = 1; id <= 4; id++) {
+                ArrayEntity entity = new ArrayEntity();
+                entity.setId(id);
+                entity.setSensorNames(new String[] {"Sensor " + id});
+                entityManager.persist(entity);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void publishQuery() throws Exception {
+        List<Long> ids = collect(new QueryPublisher<>(sessionFactory(),
+                entityManager -> new JPAQuery<>(entityManager).select(arrayEntity.id).from(arrayEntity).orderBy(arrayEntity.id.asc()),
+                executor, 2));
+
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), ids);
+    }
+
+    @Test
+    public void publishTuples() throws Exception {
+        List<Tuple> tuples = collect(new QueryPublisher<>(sessionFactory(),
+                entityManager -> new JPAQuery<>(entityManager).select(arrayEntity.id, arrayEntity.sensorNames).from(arrayEntity).orderBy(arrayEntity.id.asc()),
+                executor, 2));
+
+        assertEquals(4, tuples.size());
+        assertEquals(Long.valueOf(3L), tuples.get(2).get(arrayEntity.id));
+        assertArrayEquals(new String[] {"Sensor 3"}, tuples.get(2).get(arrayEntity.sensorNames));
+    }
+
+    @Test
+    public void publishQueryCancelsThrowingSubscriber() {
+        List<Object> signals = new CopyOnWriteArrayList<>();
+        IllegalStateException thrown = new IllegalStateException("onNext");
+        try {
+            // run on the calling thread, the exception of onNext is rethrown by request
+            new QueryPublisher<>(sessionFactory(),
+                    entityManager -> new JPAQuery<>(entityManager).select(arrayEntity.id).from(arrayEntity).orderBy(arrayEntity.id.asc()),
+                    Runnable::run)
+                    .subscribe(new Flow.Subscriber<Long>() {
+                        @Override
+                        public void onSubscribe(Flow.Subscription subscription) {
+                            subscription.request(Long.MAX_VALUE);
+                        }
+
+                        @Override
+                        public void onNext(Long item) {
+                            signals.add(item);
+                            throw thrown;
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            signals.add(throwable);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            signals.add("complete");
+                        }
+                    });
+            fail("The exception of onNext should be rethrown");
+        } catch (IllegalStateException e) {
+            assertSame(thrown, e);
+        }
+        assertEquals(List.of(1L), signals);
+    }
+
+    /**
+     * Request the items one at a time, and wait for the completion of the publisher.
+     */
+    private static <T> List<T> collect(QueryPublisher<T> publisher) throws Exception {
+        List<T> items = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+
+        completed.get(30, TimeUnit.SECONDS);
+        return items;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.pallasathenagroup.querydsl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.pallasathenagroup.querydsl.QArrayEntity.arrayEntity;
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QueryStreamsTest extends BaseTestContainersTest {
+
+    @Override
+    protected Class<?>[] getAnnotatedClasses() {
+        return new Class<?>[] { ArrayEntity.class };
+    }
+
+    @Before
+    public void setUp() {
+        doInJPA(this.buildEmf(), entityManager -> {
+            entityManager.createQuery("delete from ArrayEntity j").executeUpdate();
+
+            for (long id = 1; id <= 4; id++) {
+                ArrayEntity entity = new ArrayEntity();
+                entity.setId(id);
+                entity.setSensorNames(new String[] {"Sensor " + id});
+                entityManager.persist(entity);
+            }
+        });
+    }
+
+    @Test
+    public void streamEntities() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<ArrayEntity> entities;
+            try (Stream<ArrayEntity> stream = QueryStreams.stream(entityManager,
+                    new JPAQuery<>(entityManager).select(arrayEntity).from(arrayEntity).orderBy(arrayEntity.id.asc()), 2)) {
+                entities = stream.collect(Collectors.toList());
+            }
+
+            assertEquals(4, entities.size());
+            assertArrayEquals(new String[] {"Sensor 4"}, entities.get(3).getSensorNames());
+            // the first chunk is detached once the second one is consumed
+            assertFalse(entityManager.contains(entities.get(0)));
+            assertFalse(entityManager.contains(entities.get(1)));
+            assertTrue(entityManager.contains(entities.get(3)));
+        });
+    }
+
+    @Test
+    public void streamScalars() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<Long> ids;
+            try (Stream<Long> stream = QueryStreams.stream(entityManager,
+                    new JPAQuery<>(entityManager).select(arrayEntity.id).from(arrayEntity).orderBy(arrayEntity.id.asc()), 2)) {
+                ids = stream.collect(Collectors.toList());
+            }
+
+            assertEquals(Arrays.asList(1L, 2L, 3L, 4L), ids);
+        });
+    }
+
+    @Test
+    public void streamTuples() {
+        doInJPA(this::sessionFactory, entityManager -> {
+            List<Tuple> tuples;
+            try (Stream<Tuple> stream = QueryStreams.stream(entityManager,
+                    new JPAQuery<>(entityManager).select(arrayEntity.id, arrayEntity).from(arrayEntity).orderBy(arrayEntity.id.asc()), 2)) {
+                tuples = stream.collect(Collectors.toList());
+            }
+
+            assertEquals(4, tuples.size());
+            assertEquals(Long.valueOf(4L), tuples.get(3).get(arrayEntity.id));
+            assertArrayEquals(new String[] {"Sensor 4"}, tuples.get(3).get(arrayEntity).getSensorNames());
+            // the entities of the tuples are detached with their chunk, the ids are left as is
+            assertFalse(entityManager.contains(tuples.get(0).get(arrayEntity)));
+            assertTrue(entityManager.contains(tuples.get(3).get(arrayEntity)));
+        });
+    }
+
+}